@@ -0,0 +1,21 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.swagger.codegen.GenerationPhase")
+@Label("Generation Phase")
+@Category("Swagger Codegen")
+@Description("Phase of a code generation, for a model, an operation or a template")
+class GenerationPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Name")
+    @Description("Model, operation or template the phase is run for")
+    String name;
+}
@@ -0,0 +1,35 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+/**
+ * Emits a JFR {@link GenerationPhaseEvent} for each span, in addition to the spans of the given instrumentation.
+ * Compiled on JDK 11 and later only, see {@link Instrumentations#withJfr(GenerationInstrumentation)}.
+ */
+public class JfrInstrumentation implements GenerationInstrumentation {
+
+    private final GenerationInstrumentation instrumentation;
+
+    public JfrInstrumentation(GenerationInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public Span start(GenerationPhase phase, String name) {
+        final Span span = instrumentation.start(phase, name);
+        final GenerationPhaseEvent event = new GenerationPhaseEvent();
+        if (!event.isEnabled()) {
+            return span;
+        }
+        event.phase = phase.name();
+        event.name = name;
+        event.begin();
+        return () -> {
+            event.commit();
+            span.close();
+        };
+    }
+
+    @Override
+    public void finish() {
+        instrumentation.finish();
+    }
+}
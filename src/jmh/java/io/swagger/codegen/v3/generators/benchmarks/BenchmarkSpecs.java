@@ -0,0 +1,143 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Specifications used by the benchmarks: the petstore test specification and synthetic ones of a given size.
+ */
+final class BenchmarkSpecs {
+
+    static final String PETSTORE = "src/test/resources/3_0_0/petstore.yaml";
+
+    private static final String JSON = "application/json";
+    // one path for every OPERATION_RATIO schemas
+    private static final int OPERATION_RATIO = 10;
+    // enum properties of each schema of the shared enums specification
+    private static final int ENUM_REFS = 3;
+
+    private BenchmarkSpecs() {
+    }
+
+    static OpenAPI petstore() {
+        return new OpenAPIV3Parser().read(PETSTORE);
+    }
+
+    /**
+     * @param schemaCount number of schemas
+     * @return specification with schemaCount object schemas referencing each other, and an operation for every ten
+     * schemas
+     */
+    static OpenAPI synthetic(int schemaCount) {
+        final Components components = new Components();
+        final Paths paths = new Paths();
+        for (int i = 0; i < schemaCount; i++) {
+            final Schema schema = new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format("int64"))
+                    .addProperties("name", new StringSchema())
+                    .addProperties("createdAt", new DateTimeSchema())
+                    .addProperties("status", new StringSchema()._enum(Arrays.asList("active", "inactive")))
+                    .addProperties("tags", new ArraySchema().items(new StringSchema()));
+            if (i > 0) {
+                schema.addProperties("parent", new Schema().$ref(ref(i - 1)));
+                schema.addProperties("children", new ArraySchema().items(new Schema().$ref(ref(i * 7 % schemaCount))));
+            }
+            schema.setRequired(Arrays.asList("id", "name"));
+            components.addSchemas(name(i), schema);
+
+            if (i % OPERATION_RATIO == 0) {
+                paths.addPathItem("/" + name(i).toLowerCase() + "/{id}", pathItem(i));
+            }
+        }
+        return new OpenAPI()
+                .info(new Info().title("Synthetic " + schemaCount).version("1.0.0"))
+                .components(components)
+                .paths(paths);
+    }
+
+    /**
+     * @param schemaCount number of schemas
+     * @return temporary file holding the synthetic specification, deleted on exit
+     * @throws IOException if the file can't be written
+     */
+    static File writeSynthetic(int schemaCount) throws IOException {
+        final File file = File.createTempFile("synthetic-" + schemaCount + "-", ".json");
+        file.deleteOnExit();
+        Json.mapper().writeValue(file, synthetic(schemaCount));
+        return file;
+    }
+
+    /**
+     * @param schemaCount number of object schemas
+     * @param enumCount number of enum schemas
+     * @return specification with enumCount string enum schemas, shared by the properties of schemaCount object
+     * schemas, without paths
+     */
+    static OpenAPI sharedEnums(int schemaCount, int enumCount) {
+        final Components components = new Components();
+        for (int i = 0; i < enumCount; i++) {
+            components.addSchemas(enumName(i), new StringSchema()._enum(Arrays.asList("available", "pending", "sold", "unknown")));
+        }
+        for (int i = 0; i < schemaCount; i++) {
+            final Schema schema = new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format("int64"))
+                    .addProperties("name", new StringSchema());
+            for (int j = 0; j < ENUM_REFS; j++) {
+                schema.addProperties("status" + j, new Schema().$ref("#/components/schemas/" + enumName((i + j) % enumCount)));
+            }
+            components.addSchemas(name(i), schema);
+        }
+        return new OpenAPI()
+                .info(new Info().title("Shared enums " + schemaCount + "/" + enumCount).version("1.0.0"))
+                .components(components)
+                .paths(new Paths());
+    }
+
+    private static PathItem pathItem(int index) {
+        final Content content = new Content().addMediaType(JSON, new MediaType().schema(new Schema().$ref(ref(index))));
+        final Operation get = new Operation()
+                .operationId("get" + name(index))
+                .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("found").content(content)));
+        final Operation put = new Operation()
+                .operationId("update" + name(index))
+                .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")))
+                .requestBody(new RequestBody().required(true).content(content))
+                .responses(new ApiResponses().addApiResponse("204", new ApiResponse().description("updated")));
+        return new PathItem().get(get).put(put);
+    }
+
+    private static String name(int index) {
+        return "Model" + index;
+    }
+
+    private static String enumName(int index) {
+        return "Status" + index;
+    }
+
+    private static String ref(int index) {
+        return "#/components/schemas/" + name(index);
+    }
+}
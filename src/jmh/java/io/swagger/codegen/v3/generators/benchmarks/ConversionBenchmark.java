@@ -0,0 +1,81 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model, property and operation conversion of the petstore specification. Run with the gc profiler
+ * ({@code -prof gc}) to compare allocations with and without schema JSON rendering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean skipSchemaJson;
+
+    private OpenAPI openAPI;
+    private Map<String, Schema> schemas;
+    private JavaClientCodegen codegen;
+
+    @Setup
+    public void setUp() {
+        openAPI = BenchmarkSpecs.petstore();
+        schemas = openAPI.getComponents().getSchemas();
+        codegen = new JavaClientCodegen();
+        codegen.setSkipSchemaJson(skipSchemaJson);
+        codegen.preprocessOpenAPI(openAPI);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            blackhole.consume(codegen.fromModel(schema.getKey(), schema.getValue(), schemas));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        for (Schema schema : schemas.values()) {
+            if (schema.getProperties() == null) {
+                continue;
+            }
+            final Map<String, Schema> properties = schema.getProperties();
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                blackhole.consume(codegen.fromProperty(property.getKey(), property.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                blackhole.consume(codegen.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(),
+                        operation.getValue(), schemas, openAPI));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.generators.ProcessedModels;
+import io.swagger.codegen.v3.generators.dotnet.CSharpClientCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * C# post-processing of all models, dominated by the enum refs: the properties of the object models reference enums
+ * shared by many of them. Run with the gc profiler ({@code -prof gc}) to compare the allocations per enum ref.
+ *
+ * The models are converted once; post-processing them again gives the same models, so each invocation does the same
+ * work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumRefsBenchmark {
+
+    @Param({"5000"})
+    public int schemaCount;
+
+    @Param({"500"})
+    public int enumCount;
+
+    private CSharpClientCodegen codegen;
+    private Map<String, Object> processedModels;
+
+    @Setup
+    public void setUp() {
+        final OpenAPI openAPI = BenchmarkSpecs.sharedEnums(schemaCount, enumCount);
+        codegen = new CSharpClientCodegen();
+        codegen.preprocessOpenAPI(openAPI);
+        processedModels = ProcessedModels.of(codegen, openAPI.getComponents().getSchemas());
+    }
+
+    @Benchmark
+    public Map<String, Object> postProcessAllModels() {
+        return codegen.postProcessAllModels(processedModels);
+    }
+}
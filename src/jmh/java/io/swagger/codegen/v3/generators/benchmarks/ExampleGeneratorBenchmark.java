@@ -0,0 +1,70 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.generators.examples.ExampleCache;
+import io.swagger.codegen.v3.generators.examples.ExampleGenerator;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON and XML examples of all the petstore models, with a new example cache (first operation of a generation) and
+ * with a shared one (following operations).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExampleGeneratorBenchmark {
+
+    private static final List<String> MEDIA_TYPES = Arrays.asList("application/json", "application/xml");
+
+    private OpenAPI openAPI;
+    private RefIndex refIndex;
+    private ExampleCache sharedCache;
+    private List<Schema> refs;
+
+    @Setup
+    public void setUp() {
+        openAPI = BenchmarkSpecs.petstore();
+        refIndex = new RefIndex(openAPI);
+        sharedCache = new ExampleCache();
+        refs = new ArrayList<>();
+        for (String name : openAPI.getComponents().getSchemas().keySet()) {
+            refs.add(new Schema().$ref("#/components/schemas/" + name));
+        }
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI, refIndex, new ExampleCache());
+        for (Schema ref : refs) {
+            blackhole.consume(exampleGenerator.generate(null, MEDIA_TYPES, ref));
+        }
+    }
+
+    @Benchmark
+    public void generateWithSharedCache(Blackhole blackhole) {
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI, refIndex, sharedCache);
+        for (Schema ref : refs) {
+            blackhole.consume(exampleGenerator.generate(null, MEDIA_TYPES, ref));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end generation of a java client for synthetic specifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class GenerationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int schemaCount;
+
+    private File spec;
+    private File outputDir;
+
+    @Setup(Level.Trial)
+    public void writeSpec() throws IOException {
+        spec = BenchmarkSpecs.writeSynthetic(schemaCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("generation-benchmark").toFile();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOutputDir() throws IOException {
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpecURL(spec.getAbsolutePath())
+                .setOutputDir(outputDir.getAbsolutePath());
+        return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+}
@@ -0,0 +1,60 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingBenchmark {
+
+    private static final String[] NAMES = {
+            "pet_id", "PetStore-API", "user/name", "x-rate-limit-remaining", "_links", "order.status",
+            "123abc", "Über Name", "$special[chars]", "HTTPResponseCode", "snake_case_property_with_many_parts"
+    };
+
+    private JavaClientCodegen codegen;
+
+    @Setup
+    public void setUp() {
+        codegen = new JavaClientCodegen();
+    }
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegenConfig.camelize(name));
+            blackhole.consume(DefaultCodegenConfig.camelize(name, true));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(codegen.sanitizeName(name));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegenConfig.underscore(name));
+        }
+    }
+}
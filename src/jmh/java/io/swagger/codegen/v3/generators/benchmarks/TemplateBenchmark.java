@@ -0,0 +1,104 @@
+package io.swagger.codegen.v3.generators.benchmarks;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.java.SpringCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handlebars rendering of the Java pojo of the petstore Pet model (through model.mustache, which includes
+ * pojo.mustache) and of the JavaSpring api of the petstore pet operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private JavaClientCodegen javaCodegen;
+    private SpringCodegen springCodegen;
+    private Map<String, Object> modelBundle;
+    private Map<String, Object> apiBundle;
+
+    @Setup
+    public void setUp() {
+        final OpenAPI openAPI = BenchmarkSpecs.petstore();
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+
+        javaCodegen = new JavaClientCodegen();
+        javaCodegen.processOpts();
+        javaCodegen.preprocessOpenAPI(openAPI);
+        final CodegenModel pet = javaCodegen.fromModel("Pet", schemas.get("Pet"), schemas);
+        final Map<String, Object> model = new HashMap<>();
+        model.put("model", pet);
+        model.put("importPath", javaCodegen.toModelImport(pet.classname));
+        modelBundle = bundle(javaCodegen, javaCodegen.modelPackage());
+        modelBundle.put("models", Collections.singletonList(model));
+        modelBundle = javaCodegen.postProcessModels(modelBundle);
+
+        springCodegen = new SpringCodegen();
+        springCodegen.processOpts();
+        springCodegen.preprocessOpenAPI(openAPI);
+        final List<CodegenOperation> petOperations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            if (!path.getKey().startsWith("/pet")) {
+                continue;
+            }
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                petOperations.add(springCodegen.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(),
+                        operation.getValue(), schemas, openAPI));
+            }
+        }
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("classname", "PetApi");
+        operations.put("pathPrefix", "pet");
+        operations.put("operation", petOperations);
+        apiBundle = bundle(springCodegen, springCodegen.apiPackage());
+        apiBundle.put("operations", operations);
+        apiBundle.put("baseName", "Pet");
+        apiBundle = springCodegen.postProcessOperations(apiBundle);
+    }
+
+    @Benchmark
+    public String renderPojo() throws IOException {
+        return javaCodegen.getTemplateEngine().getRendered(javaCodegen.embeddedTemplateDir() + File.separator + "model.mustache", modelBundle);
+    }
+
+    @Benchmark
+    public String renderSpringApi() throws IOException {
+        return springCodegen.getTemplateEngine().getRendered(springCodegen.embeddedTemplateDir() + File.separator + "api.mustache", apiBundle);
+    }
+
+    private static Map<String, Object> bundle(DefaultCodegenConfig codegen, String packageName) {
+        final Map<String, Object> bundle = new HashMap<>(codegen.additionalProperties());
+        bundle.put("package", packageName);
+        bundle.put("imports", new ArrayList<Map<String, String>>());
+        return bundle;
+    }
+}
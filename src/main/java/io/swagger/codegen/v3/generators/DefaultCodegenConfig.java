@@ -18,16 +18,40 @@ import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.examples.ExampleCache;
 import io.swagger.codegen.v3.generators.examples.ExampleGenerator;
 import io.swagger.codegen.v3.generators.handlebars.BaseItemsHelper;
+import io.swagger.codegen.v3.generators.handlebars.BundleTemplateLoader;
 import io.swagger.codegen.v3.generators.handlebars.BracesHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
+import io.swagger.codegen.v3.generators.handlebars.SharedTemplateCache;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
+import io.swagger.codegen.v3.generators.incremental.IncrementalGeneration;
+import io.swagger.codegen.v3.generators.instrumentation.GenerationInstrumentation;
+import io.swagger.codegen.v3.generators.instrumentation.GenerationPhase;
+import io.swagger.codegen.v3.generators.instrumentation.InstrumentedTemplateEngine;
+import io.swagger.codegen.v3.generators.instrumentation.Instrumentations;
+import io.swagger.codegen.v3.generators.output.AsyncOutputSink;
+import io.swagger.codegen.v3.generators.output.FileSystemOutputSink;
+import io.swagger.codegen.v3.generators.output.OutputSink;
+import io.swagger.codegen.v3.generators.output.OutputSinks;
+import io.swagger.codegen.v3.generators.output.SinkTemplateEngine;
+import io.swagger.codegen.v3.generators.output.WriteIfChangedSink;
+import io.swagger.codegen.v3.generators.util.CamelizeUtil;
+import io.swagger.codegen.v3.generators.util.CaseFormatUtil;
+import io.swagger.codegen.v3.generators.util.CompiledTemplateCache;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.ParallelConverter;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.generators.util.SchemaDependencyGraph;
+import io.swagger.codegen.v3.generators.util.SchemaTypeCache;
+import io.swagger.codegen.v3.generators.util.TemplateBundle;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
@@ -36,6 +60,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -68,9 +93,9 @@ import io.swagger.v3.oas.models.security.OAuthFlow;
 import io.swagger.v3.oas.models.security.OAuthFlows;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +103,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -86,14 +115,18 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.swagger.codegen.v3.CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME;
 import static io.swagger.codegen.v3.CodegenConstants.HAS_OPTIONAL_EXT_NAME;
@@ -111,9 +144,27 @@ import static io.swagger.codegen.v3.utils.ModelUtils.processCodegenModels;
 public abstract class DefaultCodegenConfig implements CodegenConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegenConfig.class);
 
+    private static final TextEscaper TEXT_ESCAPER = TextEscaper.createTextEscaper();
+    private static final TextEscaper QUOTATION_MARK_ESCAPER = new TextEscaper().addReplacement('"', "\\\"");
+    // escaping warnings already logged, by generator class
+    private static final Set<String> ESCAPING_WARNINGS = ConcurrentHashMap.newKeySet();
+    // Parsed language arguments files, by resource url
+    private static final Map<String, Optional<JsonNode>> LANGUAGE_ARGUMENTS = new ConcurrentHashMap<>();
+
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_DIR = "handlebars";
+    public static final String SKIP_SCHEMA_JSON = "skipSchemaJson";
+    public static final String INSTRUMENTATION_REPORT = "instrumentationReport";
+    public static final String INSTRUMENTATION_JFR = "instrumentationJfr";
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
+    public static final String REACHABLE_MODELS_FROM = "reachableModelsFrom";
+    public static final String WRITE_IF_CHANGED = "writeIfChanged";
+    public static final String OUTPUT_SINK = "outputSink";
+    public static final String ASYNC_WRITE_THREADS = "asyncWriteThreads";
+    public static final String ASYNC_WRITE_QUEUE_CAPACITY = "asyncWriteQueueCapacity";
+    public static final String TEMPLATE_CACHE = "templateCache";
+    public static final String DEDUPLICATE_COMPOSED_MODELS = "deduplicateComposedModels";
 
     protected OpenAPI openAPI;
     protected OpenAPI unflattenedOpenAPI;
@@ -165,6 +216,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // They are translated to words like "Dollar" and prefixed with '
     // Then translated back during JSON encoding and decoding
     protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
+    // Character mappings used by sanitizeName, subclasses may register their own
+    protected NameSanitizer nameSanitizer = NameSanitizer.createDefault();
     // When a model is an alias for a simple type
     protected Map<String, String> typeAliases = null;
 
@@ -172,6 +225,56 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected boolean useOas2 = false;
     protected boolean copyFistAllOfProperties = false;
     protected boolean ignoreImportMapping;
+    protected boolean skipSchemaJson = false;
+    // Threads of fromModels and fromOperations, which are only called by embedders: DefaultGenerator converts the
+    // models and operations one at a time
+    protected int conversionParallelism = 1;
+    // Resolved schema types and type declarations of the current generation
+    protected final SchemaTypeCache schemaTypeCache = new SchemaTypeCache();
+    // $ref resolution index of the current OpenAPI document
+    protected volatile RefIndex refIndex;
+    // Examples of referenced models of the current OpenAPI document
+    protected ExampleCache exampleCache = new ExampleCache();
+    // Measures of the generation phases
+    protected GenerationInstrumentation instrumentation = GenerationInstrumentation.NONE;
+    private volatile InstrumentedTemplateEngine instrumentedTemplateEngine;
+    // Escapers of escapeUnsafeCharacters and escapeQuotationMark, set by the generators
+    protected TextEscaper unsafeCharactersEscaper;
+    protected TextEscaper quotationMarkEscaper;
+    // Skip rendering of files whose inputs did not change since the previous generation
+    protected boolean incrementalGeneration;
+    private volatile IncrementalGeneration incremental;
+    // Tags and operation ids ("*" for all operations) whose models are generated, null to generate all models
+    protected Set<String> reachableModelsFrom;
+    // Component schemas not generated because not reachable from reachableModelsFrom, null to generate all models
+    private volatile Set<String> unreachableModels;
+    private volatile SchemaDependencyGraph schemaDependencyGraph;
+    // Generate one composed model for the properties and items with the same oneOf/anyOf refs
+    protected boolean deduplicateComposedModels;
+    // Language neutral facts of the document shared with the other generators of a same document, null if not shared
+    protected SpecAnalysis specAnalysis;
+    // Keep the timestamp of the files whose content did not change since the previous generation
+    protected boolean writeIfChanged;
+    // Destination of the generated files. The generator always writes the files to disk itself: when the sink is not
+    // the output folder, the output folder is a temporary scratch folder for the generation, the rendered files are
+    // sent to the sink as they are rendered, the other files at the end, then the scratch folder is deleted. The
+    // folder of the user is never written to
+    protected OutputSink outputSink = new FileSystemOutputSink();
+    private boolean closeOutputSink;
+    private volatile SinkTemplateEngine sinkTemplateEngine;
+    private volatile File renderingFile;
+    private final Set<Path> sentFiles = ConcurrentHashMap.newKeySet();
+    // Output folder of the user while the generator writes to the scratch folder, null when writing to the output folder
+    private String sinkOutputFolder;
+    // Number of I/O threads writing to the output sink, 0 to write in the calling thread. Only the files written by
+    // the config itself (e.g. openapi.json) and the files sent to a sink which is not the file system are written
+    // asynchronously: with the default file system sink, the generator writes the rendered files itself, in its thread
+    protected int asyncWriteThreads = 0;
+    protected int asyncWriteQueueCapacity = AsyncOutputSink.DEFAULT_QUEUE_CAPACITY;
+    // Created by the first write of a generation, shut down at its end
+    private volatile AsyncOutputSink asyncWriter;
+    // Reuse the compiled templates of the previous generations of the process
+    protected boolean templateCache = true;
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -249,10 +352,76 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             this.setUseOas2(Boolean.valueOf(additionalProperties.get(CodegenConstants.USE_OAS2).toString()));
         }
 
+        if (additionalProperties.containsKey(SKIP_SCHEMA_JSON)) {
+            this.setSkipSchemaJson(Boolean.valueOf(additionalProperties.get(SKIP_SCHEMA_JSON).toString()));
+        }
+
+        if (additionalProperties.containsKey(DEDUPLICATE_COMPOSED_MODELS)) {
+            this.setDeduplicateComposedModels(Boolean.valueOf(additionalProperties.get(DEDUPLICATE_COMPOSED_MODELS).toString()));
+        }
+
+        if (additionalProperties.containsKey(INSTRUMENTATION_REPORT) || additionalProperties.containsKey(INSTRUMENTATION_JFR)) {
+            final Object reportFile = additionalProperties.get(INSTRUMENTATION_REPORT);
+            final Object jfr = additionalProperties.get(INSTRUMENTATION_JFR);
+            this.setInstrumentation(Instrumentations.create(reportFile == null ? null : reportFile.toString(),
+                    jfr != null && Boolean.valueOf(jfr.toString())));
+        }
+
+        if (additionalProperties.containsKey(INCREMENTAL_GENERATION)) {
+            this.setIncrementalGeneration(Boolean.valueOf(additionalProperties.get(INCREMENTAL_GENERATION).toString()));
+        }
+
+        if (additionalProperties.containsKey(REACHABLE_MODELS_FROM)) {
+            final Set<String> roots = new LinkedHashSet<>();
+            for (String root : additionalProperties.get(REACHABLE_MODELS_FROM).toString().split(",")) {
+                if (StringUtils.isNotBlank(root)) {
+                    roots.add(root.trim());
+                }
+            }
+            this.setReachableModelsFrom(roots.isEmpty() ? null : roots);
+        }
+
+        if (additionalProperties.containsKey(WRITE_IF_CHANGED)) {
+            this.setWriteIfChanged(Boolean.valueOf(additionalProperties.get(WRITE_IF_CHANGED).toString()));
+        }
+
+        if (additionalProperties.containsKey(OUTPUT_SINK)) {
+            final Object sink = additionalProperties.get(OUTPUT_SINK);
+            this.setOutputSink(OutputSinks.create(sink, outputFolder, writeIfChanged));
+            closeOutputSink = !(sink instanceof OutputSink);
+        } else if (writeIfChanged) {
+            this.setOutputSink(new WriteIfChangedSink());
+            closeOutputSink = false;
+        }
+        if (!outputSink.isFileSystem()) {
+            startScratchOutput();
+        }
+
+        if (additionalProperties.containsKey(ASYNC_WRITE_THREADS)) {
+            this.setAsyncWriteThreads(Integer.parseInt(additionalProperties.get(ASYNC_WRITE_THREADS).toString()));
+        }
+        if (additionalProperties.containsKey(ASYNC_WRITE_QUEUE_CAPACITY)) {
+            this.setAsyncWriteQueueCapacity(Integer.parseInt(additionalProperties.get(ASYNC_WRITE_QUEUE_CAPACITY).toString()));
+        }
+
+        if (additionalProperties.containsKey(TEMPLATE_CACHE)) {
+            this.setTemplateCache(Boolean.valueOf(additionalProperties.get(TEMPLATE_CACHE).toString()));
+        }
+
         setTemplateEngine();
     }
 
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
+        if (unreachableModels != null) {
+            processedModels.keySet().removeAll(unreachableModels);
+        }
+        try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.BASE_POST_PROCESS_ALL_MODELS, null)) {
+            indexAllModels(processedModels);
+        }
+        return processedModels;
+    }
+
+    private void indexAllModels(Map<String, Object> processedModels) {
         // Index all CodegenModels by model name.
         Map<String, CodegenModel> allModels = new HashMap<>();
         for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
@@ -267,7 +436,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (supportsInheritance) {
             processCodegenModels(allModels);
         }
-        return processedModels;
     }
 
     // override with any special post-processing
@@ -404,9 +572,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return objs;
     }
 
-    // override with any special post-processing
-    @SuppressWarnings("static-method")
+    // override with any special post-processing, calling super to keep incremental generation of the apis
+    @SuppressWarnings("unchecked")
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+        if (incremental != null) {
+            final Object operations = objs.get("operations");
+            if (operations instanceof Map) {
+                incremental.registerApiGroup((List<CodegenOperation>) ((Map<String, Object>) operations).get("operation"));
+            }
+        }
         return objs;
     }
 
@@ -428,11 +602,98 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        this.openAPI = openAPI;
+        try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.BASE_PREPROCESS_OPENAPI, null)) {
+            this.openAPI = openAPI;
+            this.refIndex = new RefIndex(openAPI);
+            this.schemaDependencyGraph = null;
+            this.unreachableModels = reachableModelsFrom != null ? getUnreachableModels(openAPI) : null;
+            CaseFormatUtil.clearCache();
+            schemaTypeCache.clear();
+            if (specAnalysis != null) {
+                exampleCache = specAnalysis.getExampleCache();
+                if (typeAliases == null) {
+                    typeAliases = specAnalysis.getAliases();
+                }
+            } else {
+                exampleCache = new ExampleCache();
+            }
+            incremental = incrementalGeneration ? new IncrementalGeneration(this, openAPI) : null;
+        }
+    }
+
+    /**
+     * Models which are not needed by the operations selected by {@link #REACHABLE_MODELS_FROM}. They are removed from
+     * the processed models in {@link #postProcessAllModels(Map)}, so that they are not generated; the document itself
+     * is left as given, as it may be shared with other generators.
+     *
+     * @param openAPI OpenAPI document
+     * @return names of the unreachable component schemas
+     */
+    protected Set<String> getUnreachableModels(OpenAPI openAPI) {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null || openAPI.getPaths() == null) {
+            return Collections.emptySet();
+        }
+        // the shared graph describes the document as given to the generator
+        final SchemaDependencyGraph graph = specAnalysis != null ? specAnalysis.getSchemaDependencyGraph() : getSchemaDependencyGraph();
+        final Set<String> roots = new LinkedHashSet<>();
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            boolean selected = false;
+            for (Operation operation : pathItem.readOperations()) {
+                if (isReachableModelsRoot(operation)) {
+                    roots.addAll(graph.getOperationDependencies(operation));
+                    selected = true;
+                }
+            }
+            if (selected) {
+                roots.addAll(graph.getParameterDependencies(pathItem.getParameters()));
+            }
+        }
+        final Set<String> reachable = graph.getReachableSchemas(roots);
+        final Set<String> schemaNames = openAPI.getComponents().getSchemas().keySet();
+        final Set<String> unreachable = new HashSet<>();
+        for (String schemaName : schemaNames) {
+            if (!reachable.contains(schemaName)) {
+                unreachable.add(schemaName);
+            }
+        }
+        LOGGER.info("{} of {} models are reachable from {}", schemaNames.size() - unreachable.size(), schemaNames.size(), reachableModelsFrom);
+        return unreachable;
+    }
+
+    private boolean isReachableModelsRoot(Operation operation) {
+        if (reachableModelsFrom.contains("*")
+                || (operation.getOperationId() != null && reachableModelsFrom.contains(operation.getOperationId()))) {
+            return true;
+        }
+        if (operation.getTags() == null || operation.getTags().isEmpty()) {
+            return reachableModelsFrom.contains("default");
+        }
+        for (String tag : operation.getTags()) {
+            if (reachableModelsFrom.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void processOpenAPI(OpenAPI openAPI) {
+        // last call of a generation
+        if (incremental != null) {
+            incremental.writeManifest();
+        }
+        finishOutput();
+        if (outputSink instanceof WriteIfChangedSink) {
+            final WriteIfChangedSink writeIfChangedSink = (WriteIfChangedSink) outputSink;
+            writeIfChangedSink.restoreUnchangedTimestamps();
+            LOGGER.info("{} files written, {} files unchanged", writeIfChangedSink.getWrittenCount(), writeIfChangedSink.getUnchangedCount());
+        }
+        if (templateCache && LOGGER.isDebugEnabled()) {
+            final CompiledTemplateCache cache = CompiledTemplateCache.getShared();
+            LOGGER.debug("compiled template cache: {} templates, {} hits, {} misses, {} evictions", cache.size(),
+                    cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount());
+        }
+        instrumentation.finish();
     }
 
     public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
@@ -441,7 +702,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public TemplateEngine getTemplateEngine() {
-        return this.templateEngine;
+        TemplateEngine templateEngine = this.templateEngine;
+        if (!outputSink.isFileSystem()) {
+            SinkTemplateEngine sinkEngine = sinkTemplateEngine;
+            if (sinkEngine == null || sinkEngine.getTemplateEngine() != templateEngine) {
+                sinkEngine = new SinkTemplateEngine(templateEngine, this::writeRendered);
+                sinkTemplateEngine = sinkEngine;
+            }
+            templateEngine = sinkEngine;
+        }
+        if (instrumentation == GenerationInstrumentation.NONE) {
+            return templateEngine;
+        }
+        InstrumentedTemplateEngine engine = instrumentedTemplateEngine;
+        if (engine == null || engine.getTemplateEngine() != templateEngine) {
+            engine = new InstrumentedTemplateEngine(templateEngine, instrumentation);
+            instrumentedTemplateEngine = engine;
+        }
+        return engine;
     }
 
     // override with any special text escaping logic
@@ -454,15 +732,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         // remove \t, \n, \r
         // replace \ with \\
         // replace " with \"
-        // outter unescape to retain the original multi-byte characters
         // finally escalate characters avoiding code injection
-        return escapeUnsafeCharacters(
-                StringEscapeUtils.unescapeJava(
-                        StringEscapeUtils.escapeJava(input)
-                                .replace("\\/", "/"))
-                        .replaceAll("[\\t\\n\\r]"," ")
-                        .replace("\\", "\\\\")
-                        .replace("\"", "\\\""));
+        return escapeUnsafeCharacters(TEXT_ESCAPER.escape(input));
     }
 
     /**
@@ -472,8 +743,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with unsafe characters removed or escaped
      */
     public String escapeUnsafeCharacters(String input) {
-        LOGGER.warn("escapeUnsafeCharacters should be overridden in the code generator with proper logic to escape " +
-                "unsafe characters");
+        if (unsafeCharactersEscaper != null) {
+            return unsafeCharactersEscaper.escape(input);
+        }
+        warnOnce("escapeUnsafeCharacters should be overridden (or unsafeCharactersEscaper set) in the code generator " +
+                "with proper logic to escape unsafe characters");
         // doing nothing by default and code generator should implement
         // the logic to prevent code injection
         // later we'll make this method abstract to make sure
@@ -487,9 +761,18 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with quotation mark removed or escaped
      */
     public String escapeQuotationMark(String input) {
-        LOGGER.warn("escapeQuotationMark should be overridden in the code generator with proper logic to escape " +
-                "single/double quote");
-        return input.replace("\"", "\\\"");
+        if (quotationMarkEscaper != null) {
+            return quotationMarkEscaper.escape(input);
+        }
+        warnOnce("escapeQuotationMark should be overridden (or quotationMarkEscaper set) in the code generator " +
+                "with proper logic to escape single/double quote");
+        return QUOTATION_MARK_ESCAPER.escape(input);
+    }
+
+    private void warnOnce(String message) {
+        if (ESCAPING_WARNINGS.add(getClass().getName() + ": " + message)) {
+            LOGGER.warn("{} ({})", message, getClass().getName());
+        }
     }
 
     public Set<String> defaultIncludes() {
@@ -1060,7 +1343,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return datatype;
         }
 
-        datatype = getTypeOfSchema(property);
+        datatype = schemaTypeCache.getSchemaType(property, DefaultCodegenConfig::getTypeOfSchema);
         return datatype;
     }
 
@@ -1159,6 +1442,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return a string presentation of the property type
      */
     public String getTypeDeclaration(Schema schema) {
+        if (typeAliases == null) {
+            // language types may depend on aliases, only cache them once these are known
+            return resolveTypeDeclaration(schema);
+        }
+        return schemaTypeCache.getTypeDeclaration(schema, this::resolveTypeDeclaration);
+    }
+
+    private String resolveTypeDeclaration(Schema schema) {
         String schemaType = getSchemaType(schema);
         if (typeMapping.containsKey(schemaType)) {
             return typeMapping.get(schemaType);
@@ -1166,6 +1457,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return schemaType;
     }
 
+    /**
+     * @return cache of resolved schema types and type declarations, with hit statistics of the current generation
+     */
+    public SchemaTypeCache getSchemaTypeCache() {
+        return schemaTypeCache;
+    }
+
     /**
      * Determine the type alias for the given type if it exists. This feature
      * is only used for Java, because the language does not have a aliasing
@@ -1247,6 +1545,33 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return fromModel(name, schema, null);
     }
 
+    /**
+     * Convert all Swagger Model objects to Codegen Model objects, on conversionParallelism threads.
+     * Shared lookups (type aliases) are computed once before the conversion starts.
+     *
+     * @param schemas the schemas to convert, by name
+     * @param allDefinitions a map of all Swagger models from the spec
+     * @return Codegen Model objects by name, in the same order as the given schemas
+     */
+    public Map<String, CodegenModel> fromModels(Map<String, Schema> schemas, Map<String, Schema> allDefinitions) {
+        freezeTypeAliases(allDefinitions);
+        final List<String> names = new ArrayList<>(schemas.keySet());
+        final List<CodegenModel> codegenModels = ParallelConverter.convert(names,
+                name -> fromModel(name, schemas.get(name), allDefinitions), conversionParallelism);
+
+        final Map<String, CodegenModel> result = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            result.put(names.get(i), codegenModels.get(i));
+        }
+        return result;
+    }
+
+    private void freezeTypeAliases(Map<String, Schema> allDefinitions) {
+        if (typeAliases == null) {
+            typeAliases = Collections.unmodifiableMap(getAllAliases(allDefinitions));
+        }
+    }
+
     /**
      * Convert Swagger Model object to Codegen Model object
      *
@@ -1256,10 +1581,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Model object
      */
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
-        if (typeAliases == null) {
-            // Only do this once during first call
-            typeAliases = getAllAliases(allDefinitions);
+        try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.FROM_MODEL, name)) {
+            return toCodegenModel(name, schema, allDefinitions);
         }
+    }
+
+    private CodegenModel toCodegenModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        // Only done once during first call
+        freezeTypeAliases(allDefinitions);
         final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
         if (reservedWords.contains(name)) {
             codegenModel.name = escapeReservedWord(name);
@@ -1272,7 +1601,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenModel.classname = toModelName(name);
         codegenModel.classVarName = toVarName(name);
         codegenModel.classFilename = toModelFilename(name);
-        codegenModel.modelJson = Json.pretty(schema);
+        codegenModel.modelJson = toSchemaJson(schema);
         codegenModel.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             codegenModel.getVendorExtensions().putAll(schema.getExtensions());
@@ -1359,11 +1688,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     if (StringUtils.isBlank(interfaceSchema.get$ref())) {
                         continue;
                     }
-                    Schema refSchema = null;
-                    String ref = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
-                    if (allDefinitions != null) {
-                        refSchema = allDefinitions.get(ref);
-                    }
+                    final RefIndex index = getRefIndex();
+                    String ref = index.getSimpleRef(interfaceSchema.get$ref());
+                    Schema refSchema = index.getSchema(interfaceSchema.get$ref(), allDefinitions);
                     final String modelName = toModelName(ref);
                     addImport(codegenModel, modelName);
                     if (allDefinitions != null && refSchema != null) {
@@ -1441,7 +1768,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     protected void addProperties(Map<String, Schema> properties, List<String> required, Schema schema, Map<String, Schema> allSchemas) {
         if(StringUtils.isNotBlank(schema.get$ref())) {
-            Schema interfaceSchema = allSchemas.get(OpenAPIUtil.getSimpleRef(schema.get$ref()));
+            Schema interfaceSchema = getRefIndex().getSchema(schema.get$ref(), allSchemas);
             addProperties(properties, required, interfaceSchema, allSchemas);
             return;
         }
@@ -1505,7 +1832,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         codegenProperty.defaultValue = toDefaultValue(propertySchema);
         codegenProperty.defaultValueWithParam = toDefaultValueWithParam(name, propertySchema);
-        codegenProperty.jsonSchema = Json.pretty(propertySchema);
+        codegenProperty.jsonSchema = toSchemaJson(propertySchema);
         if (propertySchema.getNullable() != null) {
             codegenProperty.nullable = propertySchema.getNullable();
         }
@@ -1887,6 +2214,27 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return responses.get(code);
     }
 
+    /**
+     * Convert all operations of the given paths to Codegen Operation objects, on conversionParallelism threads.
+     *
+     * @param paths paths by url
+     * @param schemas a map of schemas
+     * @param openAPI a OpenAPI object representing the spec
+     * @return Codegen Operation objects, ordered by path then HTTP method
+     */
+    public List<CodegenOperation> fromOperations(Map<String, PathItem> paths, Map<String, Schema> schemas, OpenAPI openAPI) {
+        freezeTypeAliases(schemas);
+        final List<Object[]> operations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> path : paths.entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                operations.add(new Object[]{path.getKey(), operation.getKey().name().toLowerCase(Locale.ROOT), operation.getValue()});
+            }
+        }
+        return ParallelConverter.convert(operations,
+                operation -> fromOperation((String) operation[0], (String) operation[1], (Operation) operation[2], schemas, openAPI),
+                conversionParallelism);
+    }
+
     /**
      * Convert Swagger Operation object to Codegen Operation object (without providing a Swagger object)
      *
@@ -1911,6 +2259,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Operation object
      */
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.FROM_OPERATION, httpMethod.toUpperCase(Locale.ROOT) + " " + path)) {
+            final CodegenOperation codegenOperation = toCodegenOperation(path, httpMethod, operation, schemas, openAPI);
+            if (incremental != null) {
+                incremental.registerOperation(codegenOperation, path, httpMethod);
+            }
+            return codegenOperation;
+        }
+    }
+
+    private CodegenOperation toCodegenOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
         CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
         Set<String> imports = new HashSet<String>();
         if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
@@ -1992,7 +2350,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         }
                     }
                     if (!additionalProperties.containsKey(CodegenConstants.DISABLE_EXAMPLES_OPTION)) {
-                        codegenOperation.examples = new ExampleGenerator(openAPI).generate(null, null, responseSchema);
+                        codegenOperation.examples = new ExampleGenerator(openAPI, getRefIndex(openAPI), exampleCache).generate(null, getExampleMediaTypes(methodResponse), responseSchema);
                     }
                     codegenOperation.defaultResponse = toDefaultValue(responseSchema);
                     codegenOperation.returnType = codegenProperty.datatype;
@@ -2025,11 +2383,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         codegenOperation.returnTypeIsPrimitive = true;
                     }
                 }
-                Map<String, Header> componentHeaders = null;
-                if ((openAPI != null) && (openAPI.getComponents() != null)) {
-                    componentHeaders = openAPI.getComponents().getHeaders();
-                }
-                addHeaders(methodResponse, codegenOperation.responseHeaders, componentHeaders);
+                addHeaders(methodResponse, codegenOperation.responseHeaders, getRefIndex(openAPI));
             }
         }
 
@@ -2049,8 +2403,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         RequestBody body = operation.getRequestBody();
         if (body != null) {
             if (StringUtils.isNotBlank(body.get$ref())) {
-                String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-                body = openAPI.getComponents().getRequestBodies().get(bodyName);
+                body = getRefIndex(openAPI).getRequestBody(body.get$ref());
             }
 
             List<Schema> foundSchemas = new ArrayList<>();
@@ -2061,8 +2414,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 String schemaName = null;
                 Schema schema = body.getContent().get(contentType).getSchema();
                 if (schema != null && StringUtils.isNotBlank(schema.get$ref())) {
-                    schemaName = OpenAPIUtil.getSimpleRef(schema.get$ref());
-                    schema = schemas.get(schemaName);
+                    final RefIndex index = getRefIndex(openAPI);
+                    schemaName = index.getSimpleRef(schema.get$ref());
+                    schema = index.getSchema(schema.get$ref(), schemas);
                 }
                 final CodegenContent codegenContent = new CodegenContent(contentType);
                 codegenContent.getContentExtensions().put(CodegenConstants.IS_FORM_EXT_NAME, isForm);
@@ -2253,15 +2607,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenResponse.schema = responseSchema;
         codegenResponse.message = escapeText(response.getDescription());
         // TODO: codegenResponse.examples = toExamples(response.getExamples());
-        codegenResponse.jsonSchema = Json.pretty(response);
+        codegenResponse.jsonSchema = toSchemaJson(response);
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             codegenResponse.vendorExtensions.putAll(response.getExtensions());
         }
-        Map<String, Header> componentHeaders = null;
-        if ((openAPI != null) && (openAPI.getComponents() != null)) {
-            componentHeaders = openAPI.getComponents().getHeaders();
-        }
-        addHeaders(response, codegenResponse.headers, componentHeaders);
+        addHeaders(response, codegenResponse.headers, getRefIndex(openAPI));
         codegenResponse.getVendorExtensions().put(CodegenConstants.HAS_HEADERS_EXT_NAME, !codegenResponse.headers.isEmpty());
 
         if (responseSchema != null) {
@@ -2352,7 +2702,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (parameter.getRequired() != null) {
             codegenParameter.required = parameter.getRequired();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.jsonSchema = toSchemaJson(parameter);
 
         if (System.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter " + parameter.getName());
@@ -2582,7 +2932,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenParameter.required = body.getRequired() != null ? body.getRequired() : Boolean.FALSE;
         codegenParameter.getVendorExtensions().put(CodegenConstants.IS_BODY_PARAM_EXT_NAME, Boolean.TRUE);
 
-        codegenParameter.jsonSchema = Json.pretty(body);
+        codegenParameter.jsonSchema = toSchemaJson(body);
 
         if (body.getContent() != null && !body.getContent().isEmpty()) {
             Object example = new ArrayList<>(body.getContent().values()).get(0).getExample();
@@ -2601,8 +2951,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             schema = getSchemaFromBody(body);
         }
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            name = OpenAPIUtil.getSimpleRef(schema.get$ref());
-            schema = schemas.get(name);
+            final RefIndex index = getRefIndex();
+            name = index.getSimpleRef(schema.get$ref());
+            schema = index.getSchema(schema.get$ref(), schemas);
         }
         if (isObjectSchema(schema)) {
             CodegenModel codegenModel = null;
@@ -2807,6 +3158,26 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
     }
 
+    /**
+     * @param words shared set of reserved words, e.g. from {@link #lowerCaseSet(String...)}, copied so that the
+     *              config can still add its own
+     */
+    protected void setReservedWords(Set<String> words) {
+        reservedWords = new HashSet<String>(words);
+    }
+
+    /**
+     * @return unmodifiable set of the given words in lower case, built once per config class and shared by its
+     * instances
+     */
+    protected static Set<String> lowerCaseSet(String... words) {
+        final Set<String> lowerCaseWords = new HashSet<String>();
+        for (String word : words) {
+            lowerCaseWords.add(word.toLowerCase());
+        }
+        return Collections.unmodifiableSet(lowerCaseWords);
+    }
+
     protected boolean isReservedWord(String word) {
         return word != null && reservedWords.contains(word.toLowerCase());
     }
@@ -2874,14 +3245,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return output;
     }
 
-    private void addHeaders(ApiResponse response, List<CodegenProperty> target, Map<String, Header> componentHeaders) {
+    private void addHeaders(ApiResponse response, List<CodegenProperty> target, RefIndex refIndex) {
         if (response.getHeaders() != null) {
             for (Map.Entry<String, Header> headers : response.getHeaders().entrySet()) {
                 Header header = headers.getValue();
                 Schema schema;
-                if ((header.get$ref() != null) && (componentHeaders != null)) {
-                    String ref = OpenAPIUtil.getSimpleRef(header.get$ref());
-                    schema = componentHeaders.get(ref).getSchema();
+                final Header componentHeader = header.get$ref() != null ? refIndex.getHeader(header.get$ref()) : null;
+                if (componentHeader != null) {
+                    schema = componentHeader.getSchema();
                 } else {
                     schema = header.getSchema();
                 }
@@ -2968,28 +3339,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     /**
      * Underscore the given word.
-     * Copied from Twitter elephant bird
+     * Same result as the original implementation copied from Twitter elephant bird
      * https://github.com/twitter/elephant-bird/blob/master/core/src/main/java/com/twitter/elephantbird/util/Strings.java
      *
      * @param word The word
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        return CaseFormatUtil.underscore(word);
     }
 
     /**
@@ -3000,7 +3357,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return CaseFormatUtil.dashize(word);
     }
 
     /**
@@ -3081,7 +3438,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 if (this.openAPI == null) {
                     LOGGER.warn("open api utility object was not properly set.");
                 } else {
-                    OpenAPIUtil.addPropertiesFromRef(this.openAPI, propertySchema, codegenProperty);
+                    OpenAPIUtil.addPropertiesFromRef(getRefIndex(), propertySchema, codegenProperty);
                 }
             }
 
@@ -3169,7 +3526,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @param allSchemas The complete set of model definitions.
      * @return A mapping from model name to type alias
      */
-    private static Map<String, String> getAllAliases(Map<String, Schema> allSchemas) {
+    static Map<String, String> getAllAliases(Map<String, Schema> allSchemas) {
         Map<String, String> aliases = new HashMap<>();
         if (allSchemas == null || allSchemas.isEmpty()) {
             return aliases;
@@ -3238,91 +3595,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        String originalWord = word;
-        LOGGER.trace("camelize start - " + originalWord);
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        int i = 0;
-        int MAX = 100;
-        while (m.find()) {
-            if (i > MAX) {
-                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
-                break;
-            }
-            i++;
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-        i = 0;
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
-            }
-        }
-        word = f.toString();
-
-        m = p.matcher(word);
-        while (m.find()) {
-            if (i > MAX) {
-                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
-                break;
-            }
-            i++;
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
-        }
-        i = 0;
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            if (i > MAX) {
-                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
-                break;
-            }
-            i++;
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
-            } else {
-                word = m.replaceFirst(upperCase);
-            }
-            m = p.matcher(word);
-        }
-
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        i = 0;
-        while (m.find()) {
-            if (i > MAX) {
-                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
-                break;
-            }
-            i++;
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
-        }
-
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
-        LOGGER.trace("camelize end - {} (new: {})", originalWord, word);
-        return word;
+        return CamelizeUtil.camelize(word, lowercaseFirstLetter);
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3357,7 +3630,140 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     public boolean shouldOverwrite(String filename) {
-        return !(skipOverwrite && new File(filename).exists());
+        if (incremental != null && incremental.isUnchanged(filename)) {
+            return false;
+        }
+        final File file = new File(filename);
+        if (skipOverwrite && (file.exists() || toOutputFile(file).exists())) {
+            return false;
+        }
+        if (outputSink instanceof WriteIfChangedSink) {
+            final WriteIfChangedSink writeIfChangedSink = (WriteIfChangedSink) outputSink;
+            // the generator writes the files one after the other: the previous file is written by now
+            writeIfChangedSink.restoreUnchangedTimestamps();
+            writeIfChangedSink.track(file);
+        } else if (!outputSink.isFileSystem()) {
+            // rendered next by the template engine, see writeRendered
+            renderingFile = file;
+        }
+        return true;
+    }
+
+    /**
+     * Sends a template rendered by the generator to the output sink, when it is not the output folder. The generator
+     * renders the file announced by the last call of {@link #shouldOverwrite(String)}.
+     */
+    private void writeRendered(String templateFile, String content) throws IOException {
+        final File file = renderingFile;
+        renderingFile = null;
+        if (file == null) {
+            LOGGER.debug("{} was not rendered for a generated file", templateFile);
+            return;
+        }
+        sentFiles.add(file.toPath().toAbsolutePath().normalize());
+        getWriter().write(toOutputFile(file), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a file generated by the config itself (and not rendered from a template) to the output sink, e.g.
+     * skipping the write if the file already has the given content when {@link #WRITE_IF_CHANGED} is set.
+     *
+     * @param file file to write
+     * @param content content of the file
+     * @throws IOException if the file can't be written
+     */
+    protected void writeFile(File file, String content) throws IOException {
+        getWriter().write(toOutputFile(file), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lets the generator write to a temporary scratch folder instead of the output folder of the user, when the output
+     * sink does not write to the output folder. Incremental generation compares with the files of the output folder,
+     * it is disabled.
+     */
+    private void startScratchOutput() {
+        if (sinkOutputFolder != null) {
+            return;
+        }
+        if (incrementalGeneration) {
+            LOGGER.warn("Incremental generation is not supported by the {} output sink, generating all the files", outputSink.getClass().getSimpleName());
+            incrementalGeneration = false;
+        }
+        try {
+            sinkOutputFolder = outputFolder;
+            outputFolder = Files.createTempDirectory("swagger-codegen-").toFile().getAbsolutePath();
+        } catch (IOException e) {
+            sinkOutputFolder = null;
+            throw new RuntimeException("Could not create the scratch folder of the generation: " + e.getMessage(), e);
+        }
+        LOGGER.debug("writing the generated files to {} for the output sink", outputFolder);
+    }
+
+    /**
+     * @param file file written by the generator
+     * @return the file in the output folder of the user, for a file of the scratch folder
+     */
+    private File toOutputFile(File file) {
+        if (sinkOutputFolder == null) {
+            return file;
+        }
+        final Path scratchFolder = new File(outputFolder).toPath().toAbsolutePath().normalize();
+        final Path path = file.toPath().toAbsolutePath().normalize();
+        if (!path.startsWith(scratchFolder)) {
+            return file;
+        }
+        return new File(sinkOutputFolder, scratchFolder.relativize(path).toString());
+    }
+
+    /**
+     * When the output sink does not write to the output folder: sends to it the files the generator wrote to the
+     * scratch folder without rendering them (copied supporting files and metadata files), then deletes the scratch
+     * folder. Waits for the asynchronous writes, then closes the sink if it was created from {@link #OUTPUT_SINK}.
+     */
+    protected void finishOutput() {
+        final AsyncOutputSink asyncWriter;
+        synchronized (this) {
+            asyncWriter = this.asyncWriter;
+            this.asyncWriter = null;
+        }
+        try {
+            if (sinkOutputFolder != null) {
+                final OutputSink writer = asyncWriter != null ? asyncWriter : outputSink;
+                final Path scratchFolder = new File(outputFolder).toPath();
+                final List<Path> files;
+                try (Stream<Path> paths = Files.walk(scratchFolder)) {
+                    files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+                }
+                int copied = 0;
+                for (Path path : files) {
+                    if (!sentFiles.contains(path.toAbsolutePath().normalize())) {
+                        writer.write(toOutputFile(path.toFile()), Files.readAllBytes(path));
+                        copied++;
+                    }
+                }
+                LOGGER.debug("sent {} rendered and {} copied files to the output sink", sentFiles.size(), copied);
+            }
+            if (asyncWriter != null) {
+                // throws the write errors of the generation
+                asyncWriter.shutdown();
+            }
+            if (closeOutputSink) {
+                // created again from the option by the next processOpts
+                closeOutputSink = false;
+                outputSink.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write the generated files: " + e.getMessage(), e);
+        } finally {
+            // ready for the next generation with the same config
+            if (sinkOutputFolder != null) {
+                FileUtils.deleteQuietly(new File(outputFolder));
+                outputFolder = sinkOutputFolder;
+                sinkOutputFolder = null;
+            }
+            sentFiles.clear();
+            renderingFile = null;
+        }
     }
 
     public boolean isSkipOverwrite() {
@@ -3521,47 +3927,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (maybeHandleEmptyName(name)) return Object.class.getSimpleName();
 
         // if the name is just '$', map it to 'value' for the time being.
         if (maybeHandleDollarName(name)) return "value";
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        }
-        else {
-            name = name.replaceAll("\\W", "");
-        }
-
-        return name;
+        // input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b, input.name => input_name,
+        // input name and age => input_name_and_age, then remove everything else other than word, number and _
+        // (see NameSanitizer.createDefault, extra mappings are registered on nameSanitizer)
+        return nameSanitizer.sanitize(name, allowUnicodeIdentifiers);
     }
 
     private boolean maybeHandleDollarName(String name) {
@@ -3589,7 +3964,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         tag = camelize(sanitizeName(tag));
 
         // tag starts with numbers
-        if (tag.matches("^\\d.*")) {
+        if (!tag.isEmpty() && tag.charAt(0) >= '0' && tag.charAt(0) <= '9') {
             tag = "Class" + tag;
         }
 
@@ -3606,6 +3981,25 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         handlebars.registerHelper(BaseItemsHelper.NAME, new BaseItemsHelper());
         handlebars.registerHelper(NotEmptyHelper.NAME, new NotEmptyHelper());
         handlebars.registerHelpers(new StringUtilHelper());
+        // called on each new Handlebars instance, before compiling the templates
+        if (!additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR) && StringUtils.isNotBlank(embeddedTemplateDir())) {
+            // custom templates are read as text by the generator
+            final TemplateBundle bundle = TemplateBundle.load(getClass().getClassLoader(), embeddedTemplateDir());
+            if (bundle != null) {
+                handlebars.with(new BundleTemplateLoader(bundle, embeddedTemplateDir(), handlebars.getLoader()));
+            }
+        }
+        if (templateCache) {
+            handlebars.with(new SharedTemplateCache(getTemplateCacheKey()));
+        }
+    }
+
+    /**
+     * @return key of the compiled templates of this config in the shared template cache: compiled templates depend on
+     * the helpers (by config class) and on the resolution of the partials (by template folders and library)
+     */
+    protected String getTemplateCacheKey() {
+        return getClass().getName() + '|' + templateDir() + '|' + embeddedTemplateDir() + '|' + getLibrary();
     }
 
     @Override
@@ -3614,12 +4008,41 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (StringUtils.isBlank(argumentsLocation)) {
             return null;
         }
-        final InputStream inputStream = getClass().getResourceAsStream(argumentsLocation);
-        if (inputStream == null) {
+        final URL resource = getClass().getResource(argumentsLocation);
+        if (resource == null) {
             return null;
         }
+        final JsonNode arguments = LANGUAGE_ARGUMENTS.computeIfAbsent(resource.toString(),
+                key -> Optional.ofNullable(readLanguageArgumentsNode(resource))).orElse(null);
+        if (arguments == null) {
+            return null;
+        }
+        // new arguments for each call, their values are set by the generation
+        List<CodegenArgument> languageArguments = new ArrayList<>();
+        for (JsonNode argument : arguments) {
+            String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
+            String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
+            String shortOption = argument.findValue("shortOption") != null ? argument.findValue("shortOption").textValue() : null;
+            String type = argument.findValue("type") != null ? argument.findValue("type").textValue() : "string";
+            boolean isArray = argument.findValue("isArray") != null ? argument.findValue("isArray").booleanValue() : false;
+
+            languageArguments.add(new CodegenArgument()
+                    .option(option)
+                    .shortOption(shortOption)
+                    .description(description)
+                    .type(type)
+                    .isArray(isArray));
+        }
+        return languageArguments;
+    }
+
+    /**
+     * @param resource language arguments file
+     * @return arguments node of the file, null if the file can't be read or has no arguments
+     */
+    private static JsonNode readLanguageArgumentsNode(URL resource) {
         final String content;
-        try {
+        try (InputStream inputStream = resource.openStream()) {
             content = IOUtils.toString(inputStream);
             if (StringUtils.isBlank(content)) {
                 return null;
@@ -3642,22 +4065,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (arguments == null || !arguments.isArray()) {
             return null;
         }
-        List<CodegenArgument> languageArguments = new ArrayList<>();
-        for (JsonNode argument : arguments) {
-            String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
-            String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
-            String shortOption = argument.findValue("shortOption") != null ? argument.findValue("shortOption").textValue() : null;
-            String type = argument.findValue("type") != null ? argument.findValue("type").textValue() : "string";
-            boolean isArray = argument.findValue("isArray") != null ? argument.findValue("isArray").booleanValue() : false;
-
-            languageArguments.add(new CodegenArgument()
-                    .option(option)
-                    .shortOption(shortOption)
-                    .description(description)
-                    .type(type)
-                    .isArray(isArray));
-        }
-        return languageArguments;
+        return arguments;
     }
 
     @Override
@@ -3707,7 +4115,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         else {
             folder = supportingFile.destinationFilename;
         }
-        if(!new File(folder).exists()) {
+        // files of the user are in the output folder, whatever the output sink
+        final File file = toOutputFile(new File(folder));
+        if (!file.exists() && !getWriter().exists(file)) {
             supportingFiles.add(supportingFile);
         } else {
             LOGGER.info("Skipped overwriting " + supportingFile.destinationFilename + " as the file already exists in " + folder);
@@ -3806,17 +4216,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         allowableValues.put("enumVars", enumVars);
 
-        // handle default value for enum, e.g. available => StatusEnum.AVAILABLE
-        if (var.defaultValue != null) {
-            String enumName = null;
-            for (Map<String, String> enumVar : enumVars) {
-                if (toEnumValue(var.defaultValue, var.datatype).equals(enumVar.get("value"))) {
-                    enumName = enumVar.get("name");
-                    break;
-                }
-            }
-            if (enumName != null) {
-                var.defaultValue = String.format("%s.%s", var.datatypeWithEnum, enumName);
+        updateEnumDefaultValue(var, enumVars);
+    }
+
+    /**
+     * Handle default value for enum, e.g. available => StatusEnum.AVAILABLE
+     *
+     * @param var enum property
+     * @param enumVars "enumVars" of the allowable values of the property
+     */
+    protected void updateEnumDefaultValue(CodegenProperty var, List<Map<String, String>> enumVars) {
+        if (var.defaultValue == null) {
+            return;
+        }
+        final String defaultValue = toEnumValue(var.defaultValue, var.datatype);
+        for (Map<String, String> enumVar : enumVars) {
+            if (defaultValue.equals(enumVar.get("value"))) {
+                var.defaultValue = String.format("%s.%s", var.datatypeWithEnum, enumVar.get("name"));
+                return;
             }
         }
     }
@@ -3883,6 +4300,145 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         this.useOas2 = useOas2;
     }
 
+    public GenerationInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    public void setInstrumentation(GenerationInstrumentation instrumentation) {
+        this.instrumentation = instrumentation == null ? GenerationInstrumentation.NONE : instrumentation;
+    }
+
+    public int getConversionParallelism() {
+        return conversionParallelism;
+    }
+
+    /**
+     * Embedder-only API: the generation run by DefaultGenerator converts the models and operations one at a time and
+     * is not affected, only {@link #fromModels(Map, Map)} and {@link #fromOperations(Map, Map, OpenAPI)} are.
+     *
+     * @param conversionParallelism number of threads converting the models and operations
+     */
+    public void setConversionParallelism(int conversionParallelism) {
+        this.conversionParallelism = conversionParallelism;
+    }
+
+    public Set<String> getReachableModelsFrom() {
+        return reachableModelsFrom;
+    }
+
+    public void setReachableModelsFrom(Set<String> reachableModelsFrom) {
+        this.reachableModelsFrom = reachableModelsFrom;
+    }
+
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink == null ? new FileSystemOutputSink() : outputSink;
+    }
+
+    /**
+     * @return sink to write the files generated by the config to, writing asynchronously to the output sink when
+     * {@link #ASYNC_WRITE_THREADS} is set
+     */
+    protected OutputSink getWriter() {
+        if (asyncWriteThreads < 1) {
+            return outputSink;
+        }
+        AsyncOutputSink writer = asyncWriter;
+        if (writer == null) {
+            synchronized (this) {
+                writer = asyncWriter;
+                if (writer == null) {
+                    writer = new AsyncOutputSink(outputSink, asyncWriteThreads, asyncWriteQueueCapacity);
+                    asyncWriter = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
+    public boolean isTemplateCache() {
+        return templateCache;
+    }
+
+    public void setTemplateCache(boolean templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    public int getAsyncWriteThreads() {
+        return asyncWriteThreads;
+    }
+
+    /**
+     * Not a general speed-up of the generation: only the files written by the config itself and the files sent to an
+     * output sink which is not the file system are written asynchronously.
+     *
+     * @param asyncWriteThreads number of I/O threads writing to the output sink, 0 to write in the calling thread
+     */
+    public void setAsyncWriteThreads(int asyncWriteThreads) {
+        this.asyncWriteThreads = asyncWriteThreads;
+    }
+
+    public int getAsyncWriteQueueCapacity() {
+        return asyncWriteQueueCapacity;
+    }
+
+    public void setAsyncWriteQueueCapacity(int asyncWriteQueueCapacity) {
+        this.asyncWriteQueueCapacity = asyncWriteQueueCapacity;
+    }
+
+    public boolean isWriteIfChanged() {
+        return writeIfChanged;
+    }
+
+    public void setWriteIfChanged(boolean writeIfChanged) {
+        this.writeIfChanged = writeIfChanged;
+    }
+
+    public boolean isSkipSchemaJson() {
+        return skipSchemaJson;
+    }
+
+    public void setSkipSchemaJson(boolean skipSchemaJson) {
+        this.skipSchemaJson = skipSchemaJson;
+    }
+
+    public boolean isDeduplicateComposedModels() {
+        return deduplicateComposedModels;
+    }
+
+    /**
+     * @param deduplicateComposedModels whether the properties and array items with the same oneOf/anyOf refs share
+     *                                  one composed model, named after the first of them, instead of one model each.
+     */
+    public void setDeduplicateComposedModels(boolean deduplicateComposedModels) {
+        this.deduplicateComposedModels = deduplicateComposedModels;
+    }
+
+    /**
+     * Pretty printed json of the given schema (or response, parameter, request body), as exposed to templates by the
+     * modelJson and jsonSchema fields.
+     *
+     * @param value value to render
+     * @return json string, or null if skipSchemaJson is set
+     */
+    protected String toSchemaJson(Object value) {
+        if (skipSchemaJson) {
+            return null;
+        }
+        return Json.pretty(value);
+    }
+
     public abstract String getDefaultTemplateDir();
 
     public boolean convertPropertyToBoolean(String propertyKey) {
@@ -3943,9 +4499,62 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected Parameter getParameterFromRef(String ref, OpenAPI openAPI) {
-        String parameterName = ref.substring(ref.lastIndexOf('/') + 1);
-        Map<String, Parameter> parameterMap = openAPI.getComponents().getParameters();
-        return parameterMap.get(parameterName);
+        return getRefIndex(openAPI).getParameter(ref);
+    }
+
+    /**
+     * @return $ref resolution index of the current OpenAPI document
+     */
+    public RefIndex getRefIndex() {
+        return getRefIndex(openAPI);
+    }
+
+    /**
+     * @param openAPI OpenAPI document
+     * @return $ref resolution index of the given document, built once per document
+     */
+    protected RefIndex getRefIndex(OpenAPI openAPI) {
+        RefIndex index = refIndex;
+        if (index == null || index.getOpenAPI() != openAPI) {
+            index = new RefIndex(openAPI);
+            refIndex = index;
+            if (specAnalysis == null) {
+                exampleCache.clear();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return dependencies between the models of the current OpenAPI document, built once per document
+     */
+    public SchemaDependencyGraph getSchemaDependencyGraph() {
+        final RefIndex index = getRefIndex();
+        SchemaDependencyGraph graph = schemaDependencyGraph;
+        if (graph == null || graph.getRefIndex() != index) {
+            graph = new SchemaDependencyGraph(index);
+            schemaDependencyGraph = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * @return examples of referenced models of the current OpenAPI document
+     */
+    public ExampleCache getExampleCache() {
+        return exampleCache;
+    }
+
+    public SpecAnalysis getSpecAnalysis() {
+        return specAnalysis;
+    }
+
+    /**
+     * @param specAnalysis analysis of the document to generate, shared with the other generators of the document,
+     *                     see {@link MultiLanguageGenerator}
+     */
+    public void setSpecAnalysis(SpecAnalysis specAnalysis) {
+        this.specAnalysis = specAnalysis;
     }
 
     protected void setTemplateEngine() {
@@ -3994,8 +4603,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return;
         }
         if (StringUtils.isNotBlank(body.get$ref())) {
-            String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-            body = openAPI.getComponents().getRequestBodies().get(bodyName);
+            body = getRefIndex(openAPI).getRequestBody(body.get$ref());
         }
 
         if (body.getContent() == null || body.getContent().isEmpty()) {
@@ -4108,6 +4716,36 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
     }
 
+    /**
+     * @param response operation response
+     * @return media types to generate examples for, null to default to JSON
+     */
+    protected List<String> getExampleMediaTypes(ApiResponse response) {
+        return getExampleMediaTypes(response, true);
+    }
+
+    /**
+     * For the generators whose templates parse the examples as JSON.
+     *
+     * @param response operation response
+     * @return JSON media types to generate examples for, null to default to JSON
+     */
+    protected List<String> getJsonExampleMediaTypes(ApiResponse response) {
+        return getExampleMediaTypes(response, false);
+    }
+
+    private static List<String> getExampleMediaTypes(ApiResponse response, boolean xml) {
+        if (response.getContent() == null || response.getContent().isEmpty()) {
+            return null;
+        }
+        final List<String> mediaTypes = new ArrayList<>();
+        for (String mediaType : response.getContent().keySet()) {
+            if (mediaType.startsWith("application/json") || (xml && mediaType.startsWith("application/xml"))) {
+                mediaTypes.add(mediaType);
+            }
+        }
+        return mediaTypes.isEmpty() ? null : mediaTypes;
+    }
 
     protected Set<String> getProducesInfo(Operation operation) {
         if(operation.getResponses() == null || operation.getResponses().isEmpty()) {
@@ -4123,8 +4761,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (StringUtils.isBlank(ref)) {
                 return null;
             }
-            ref = OpenAPIUtil.getSimpleRef(ref);
-            return allSchemas.get(ref);
+            return getRefIndex().getSchema(ref, allSchemas);
         }
         return null;
     }
@@ -4136,7 +4773,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (StringUtils.isBlank(ref)) {
                 return null;
             }
-            return OpenAPIUtil.getSimpleRef(ref);
+            return getRefIndex().getSimpleRef(ref);
         }
         return null;
     }
@@ -4177,7 +4814,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return true;
         }
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            Schema refSchema = OpenAPIUtil.getSchemaFromRefSchema(schema, openAPI);
+            Schema refSchema = getRefIndex().getSchemaFromRefSchema(schema);
             if (refSchema != null) {
                 return isObjectSchema(refSchema);
             }
@@ -0,0 +1,79 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenType;
+
+/**
+ * Name, tag and help of a generator, enough to list the generators and pick one without creating them.
+ */
+public class GeneratorDescriptor {
+
+    private String name;
+    private CodegenType tag;
+    private String help;
+    private String className;
+
+    public GeneratorDescriptor() {
+    }
+
+    public GeneratorDescriptor(String name, CodegenType tag, String help, String className) {
+        this.name = name;
+        this.tag = tag;
+        this.help = help;
+        this.className = className;
+    }
+
+    public static GeneratorDescriptor of(CodegenConfig config) {
+        return new GeneratorDescriptor(config.getName(), config.getTag(), config.getHelp(), config.getClass().getName());
+    }
+
+    /**
+     * @return new instance of the generator, only its class is loaded
+     */
+    public CodegenConfig newInstance(ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader).asSubclass(CodegenConfig.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new RuntimeException("Could not create generator " + name + " from class " + className, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CodegenType getTag() {
+        return tag;
+    }
+
+    public void setTag(CodegenType tag) {
+        this.tag = tag;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public void setHelp(String help) {
+        this.help = help;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + tag + "): " + className;
+    }
+}
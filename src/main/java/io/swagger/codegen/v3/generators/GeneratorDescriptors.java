@@ -0,0 +1,149 @@
+package io.swagger.codegen.v3.generators;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Discovery of the generators registered in {@value #SERVICES_RESOURCE} from their {@link GeneratorDescriptor},
+ * written at build time in {@value #DESCRIPTORS_RESOURCE} by {@link #main(String[])}: listing the generators or
+ * picking one by name doesn't create all of them, unlike a {@link java.util.ServiceLoader}.
+ *
+ * Generators registered without descriptor, e.g. by another jar, are created once to be described.
+ */
+public final class GeneratorDescriptors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorDescriptors.class);
+
+    public static final String SERVICES_RESOURCE = "META-INF/services/io.swagger.codegen.v3.CodegenConfig";
+    public static final String DESCRIPTORS_RESOURCE = "META-INF/swagger-codegen/generators.json";
+
+    private static final TypeReference<List<GeneratorDescriptor>> DESCRIPTOR_LIST = new TypeReference<List<GeneratorDescriptor>>() {};
+
+    private GeneratorDescriptors() {
+    }
+
+    private static class Holder {
+        // loaded on first use
+        static final Map<String, GeneratorDescriptor> DESCRIPTORS = byName(load(GeneratorDescriptors.class.getClassLoader()));
+    }
+
+    /**
+     * @return descriptors of the generators of the classpath of this module, loaded once
+     */
+    public static List<GeneratorDescriptor> getDescriptors() {
+        return new ArrayList<>(Holder.DESCRIPTORS.values());
+    }
+
+    /**
+     * @param name generator name, e.g. java
+     * @return descriptor of the generator, null if there is no generator with that name
+     */
+    public static GeneratorDescriptor getDescriptor(String name) {
+        return Holder.DESCRIPTORS.get(name);
+    }
+
+    /**
+     * @param name generator name, e.g. java
+     * @return new instance of the generator, the other generators are not created
+     */
+    public static CodegenConfig forName(String name) {
+        final GeneratorDescriptor descriptor = getDescriptor(name);
+        if (descriptor == null) {
+            throw new RuntimeException("Can't load config class with name " + name + ", available: " + Holder.DESCRIPTORS.keySet());
+        }
+        return descriptor.newInstance(GeneratorDescriptors.class.getClassLoader());
+    }
+
+    /**
+     * @return descriptors of the generators registered in the class loader, in registration order
+     */
+    public static List<GeneratorDescriptor> load(ClassLoader classLoader) {
+        final Map<String, GeneratorDescriptor> described = new LinkedHashMap<>();
+        try {
+            for (URL resource : Collections.list(classLoader.getResources(DESCRIPTORS_RESOURCE))) {
+                try (InputStream input = resource.openStream()) {
+                    for (GeneratorDescriptor descriptor : Json.mapper().readValue(input, DESCRIPTOR_LIST)) {
+                        described.put(descriptor.getClassName(), descriptor);
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("Could not read generator descriptors {}: {}", resource, e.getMessage());
+                }
+            }
+            final List<GeneratorDescriptor> descriptors = new ArrayList<>();
+            for (String className : readServices(classLoader.getResources(SERVICES_RESOURCE))) {
+                final GeneratorDescriptor descriptor = described.get(className);
+                descriptors.add(descriptor != null ? descriptor : describe(className, classLoader));
+            }
+            return descriptors;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read generator registrations", e);
+        }
+    }
+
+    private static Set<String> readServices(Enumeration<URL> resources) throws IOException {
+        final Set<String> classNames = new LinkedHashSet<>();
+        for (URL resource : Collections.list(resources)) {
+            try (InputStream input = resource.openStream()) {
+                for (String line : IOUtils.readLines(input, StandardCharsets.UTF_8)) {
+                    final int comment = line.indexOf('#');
+                    final String className = (comment < 0 ? line : line.substring(0, comment)).trim();
+                    if (!className.isEmpty()) {
+                        classNames.add(className);
+                    }
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static GeneratorDescriptor describe(String className, ClassLoader classLoader) {
+        return GeneratorDescriptor.of(new GeneratorDescriptor(className, null, null, className).newInstance(classLoader));
+    }
+
+    private static Map<String, GeneratorDescriptor> byName(List<GeneratorDescriptor> descriptors) {
+        final Map<String, GeneratorDescriptor> byName = new LinkedHashMap<>();
+        for (GeneratorDescriptor descriptor : descriptors) {
+            // first registration wins, like the service loader lookup by name
+            byName.putIfAbsent(descriptor.getName(), descriptor);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Build step writing the descriptors of the generators of this module, run on the compiled classes.
+     *
+     * @param args folder of the compiled classes, e.g. target/classes
+     */
+    public static void main(String[] args) throws IOException {
+        final File classes = new File(args.length > 0 ? args[0] : "target/classes");
+        final List<GeneratorDescriptor> descriptors = new ArrayList<>();
+        for (String className : readServices(Collections.enumeration(
+                Collections.singletonList(new File(classes, SERVICES_RESOURCE).toURI().toURL())))) {
+            descriptors.add(describe(className, GeneratorDescriptors.class.getClassLoader()));
+        }
+        final File file = new File(classes, DESCRIPTORS_RESOURCE);
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            throw new IOException("Could not create directory " + file.getParentFile());
+        }
+        Json.pretty().writeValue(file, descriptors);
+        LOGGER.info("wrote {} generator descriptors to {}", descriptors.size(), file);
+    }
+}
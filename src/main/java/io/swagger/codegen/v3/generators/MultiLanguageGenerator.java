@@ -0,0 +1,97 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.DefaultGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates several languages from a same document, parsed and analyzed once in a {@link SpecAnalysis}: each
+ * generator gets its own copy of the document, and shares the analysis with the others.
+ *
+ * The generators are configured by the caller (output folder, additional properties...), as for a single generation,
+ * including the unflattened document of the generators which need it.
+ */
+public class MultiLanguageGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiLanguageGenerator.class);
+
+    private final SpecAnalysis analysis;
+    private final int parallelism;
+
+    /**
+     * @param analysis analysis of the document to generate
+     * @param parallelism number of generators run at the same time
+     */
+    public MultiLanguageGenerator(SpecAnalysis analysis, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, got " + parallelism);
+        }
+        this.analysis = analysis;
+        this.parallelism = parallelism;
+    }
+
+    public SpecAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    /**
+     * @param configs configured generators, each one generates to its own output folder
+     * @return generated files, by generator in the given order
+     * @throws RuntimeException the first failure once all generators are done, the others suppressed
+     */
+    public Map<DefaultCodegenConfig, List<File>> generate(List<? extends DefaultCodegenConfig> configs) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, configs.size())));
+        try {
+            final Map<DefaultCodegenConfig, Future<List<File>>> futures = new LinkedHashMap<>();
+            for (DefaultCodegenConfig config : configs) {
+                futures.put(config, executor.submit(() -> generate(config)));
+            }
+            final Map<DefaultCodegenConfig, List<File>> files = new LinkedHashMap<>();
+            RuntimeException failure = null;
+            for (Map.Entry<DefaultCodegenConfig, Future<List<File>>> future : futures.entrySet()) {
+                try {
+                    files.put(future.getKey(), future.getValue().get());
+                } catch (ExecutionException e) {
+                    final RuntimeException error = new RuntimeException("Could not generate " + future.getKey().getName(), e.getCause());
+                    if (failure == null) {
+                        failure = error;
+                    } else {
+                        failure.addSuppressed(error);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while generating " + future.getKey().getName(), e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return files;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<File> generate(DefaultCodegenConfig config) {
+        final long start = System.currentTimeMillis();
+        config.setSpecAnalysis(analysis);
+        final ClientOptInput input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .openAPI(analysis.copyOpenAPI())
+                .config(config);
+        final List<File> files = new DefaultGenerator().opts(input).generate();
+        LOGGER.info("{}: {} files generated in {} ms", config.getName(), files.size(), System.currentTimeMillis() - start);
+        return files;
+    }
+}
@@ -11,9 +11,12 @@ import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 public class SchemaHandler implements ISchemaHandler {
 
@@ -24,6 +27,11 @@ public class SchemaHandler implements ISchemaHandler {
 
     protected DefaultCodegenConfig codegenConfig;
     private List<CodegenModel> composedModels = new ArrayList<>();
+    private final Set<CodegenModel> addedComposedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+    // model names of the interface refs, resolved once per ref
+    private final Map<String, String> interfaceModelNames = new HashMap<>();
+    // composed models of the properties and items, by kind and refs, when deduplicated
+    private final Map<String, CodegenModel> sharedComposedModels = new HashMap<>();
 
     public SchemaHandler(DefaultCodegenConfig codegenConfig) {
         this.codegenConfig = codegenConfig;
@@ -43,16 +51,13 @@ public class SchemaHandler implements ISchemaHandler {
         if (properties == null || properties.isEmpty()) {
             return;
         }
-        for (String name : properties.keySet()) {
-            final Schema property = properties.get(name);
-            final Optional<CodegenProperty> optionalCodegenProperty = codegenModel.getVars()
-                .stream()
-                .filter(codegenProperty -> codegenProperty.baseName.equals(name))
-                .findFirst();
-            if (!optionalCodegenProperty.isPresent()) {
+        final Map<String, CodegenProperty> vars = this.indexVars(codegenModel);
+        for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+            final Schema property = entry.getValue();
+            final CodegenProperty codegenProperty = vars.get(entry.getKey());
+            if (codegenProperty == null) {
                 continue;
             }
-            final CodegenProperty codegenProperty = optionalCodegenProperty.get();
             final String codegenName = codegenModel.getName() + codegenConfig.toModelName(codegenProperty.getName());
             if (property instanceof ComposedSchema) {
                 this.addComposedModel(this.processComposedSchema(codegenName, codegenProperty, (ComposedSchema) property, allModels));
@@ -86,17 +91,11 @@ public class SchemaHandler implements ISchemaHandler {
     }
 
     protected CodegenModel processComposedSchema(String name, ComposedSchema composedSchema, Map<String, CodegenModel> allModels) {
-        List<Schema> schemas = composedSchema.getOneOf();
-        CodegenModel composedModel = this.createComposedModel(ONE_OF_PREFFIX + name, schemas);
-        if (composedModel == null) {
-            schemas = composedSchema.getAnyOf();
-            composedModel = this.createComposedModel(ANY_OF_PREFFIX + name, schemas);
-            if (composedModel == null) {
-                return null;
-            }
+        final CodegenModel composedModel = this.getComposedModel(ONE_OF_PREFFIX, name, composedSchema, composedSchema.getOneOf(), allModels);
+        if (composedModel != null) {
+            return composedModel;
         }
-        this.addInterfaces(schemas, composedModel, allModels);
-        return composedModel;
+        return this.getComposedModel(ANY_OF_PREFFIX, name, composedSchema, composedSchema.getAnyOf(), allModels);
     }
 
     protected CodegenModel processComposedSchema(String codegenModelName, CodegenProperty codegenProperty, ComposedSchema composedSchema, Map<String, CodegenModel> allModels) {
@@ -106,16 +105,10 @@ public class SchemaHandler implements ISchemaHandler {
             this.updatePropertyDataType(codegenProperty, composedModel);
             return composedModel;
         }
-        schemas = composedSchema.getOneOf();
-        CodegenModel composedModel = this.createComposedModel(ONE_OF_PREFFIX + codegenModelName, schemas);
+        final CodegenModel composedModel = this.processComposedSchema(codegenModelName, composedSchema, allModels);
         if (composedModel == null) {
-            schemas = composedSchema.getAnyOf();
-            composedModel = this.createComposedModel(ANY_OF_PREFFIX + codegenModelName, schemas);
-            if (composedModel == null) {
-                return null;
-            }
+            return null;
         }
-        this.addInterfaces(schemas, composedModel, allModels);
         this.updatePropertyDataType(codegenProperty, composedModel);
         return composedModel;
     }
@@ -124,6 +117,9 @@ public class SchemaHandler implements ISchemaHandler {
         final Schema itemsSchema = arraySchema.getItems();
         if (itemsSchema instanceof ComposedSchema) {
             final CodegenModel composedModel = this.processComposedSchema(codegenModel.name + ARRAY_ITEMS_SUFFIX, (ComposedSchema) itemsSchema, allModels);
+            if (composedModel == null) {
+                return null;
+            }
             this.updateArrayModel(codegenModel, composedModel.name, arraySchema);
             return composedModel;
         }
@@ -143,6 +139,47 @@ public class SchemaHandler implements ISchemaHandler {
         return null;
     }
 
+    /**
+     * Creates the composed model of the oneOf/anyOf schemas of a property or array items, or returns the one created
+     * for the same refs when composed models are deduplicated.
+     */
+    protected CodegenModel getComposedModel(String prefix, String name, ComposedSchema composedSchema, List<Schema> schemas, Map<String, CodegenModel> allModels) {
+        final String key = codegenConfig.isDeduplicateComposedModels() ? this.getComposedModelKey(prefix, composedSchema, schemas) : null;
+        if (key != null && sharedComposedModels.containsKey(key)) {
+            return sharedComposedModels.get(key);
+        }
+        final CodegenModel composedModel = this.createComposedModel(prefix + name, schemas);
+        if (composedModel == null) {
+            return null;
+        }
+        this.addInterfaces(schemas, composedModel, allModels);
+        if (key != null) {
+            sharedComposedModels.put(key, composedModel);
+        }
+        return composedModel;
+    }
+
+    /**
+     * @return key of the given oneOf/anyOf schemas, null if they are not all refs
+     */
+    protected String getComposedModelKey(String prefix, ComposedSchema composedSchema, List<Schema> schemas) {
+        if (schemas == null || schemas.isEmpty()) {
+            return null;
+        }
+        final StringBuilder key = new StringBuilder(prefix);
+        for (Schema schema : schemas) {
+            if (StringUtils.isBlank(schema.get$ref())) {
+                return null;
+            }
+            key.append('|').append(schema.get$ref());
+        }
+        if (composedSchema.getDiscriminator() != null) {
+            key.append('|').append(composedSchema.getDiscriminator().getPropertyName())
+                .append('|').append(composedSchema.getDiscriminator().getMapping());
+        }
+        return key.toString();
+    }
+
     protected CodegenModel createComposedModel(String name, List<Schema> schemas) {
         if (schemas == null || schemas.isEmpty()) {
             return null;
@@ -171,9 +208,30 @@ public class SchemaHandler implements ISchemaHandler {
             if (StringUtils.isBlank(ref)) {
                 continue;
             }
-            final String schemaName = ref.substring(ref.lastIndexOf("/") + 1);
-            this.addInterfaceModel(allModels.get(codegenConfig.toModelName(schemaName)), codegenModel);
+            this.addInterfaceModel(allModels.get(this.getInterfaceModelName(ref)), codegenModel);
+        }
+    }
+
+    /**
+     * @param ref $ref of a oneOf/anyOf schema
+     * @return model name of the referenced schema
+     */
+    protected String getInterfaceModelName(String ref) {
+        return interfaceModelNames.computeIfAbsent(ref, r -> codegenConfig.toModelName(codegenConfig.getRefIndex().getName(r)));
+    }
+
+    /**
+     * @return properties of the given model by base name, the first one for a same base name
+     */
+    protected Map<String, CodegenProperty> indexVars(CodegenModel codegenModel) {
+        final Map<String, CodegenProperty> vars = new HashMap<>();
+        if (codegenModel.getVars() == null) {
+            return vars;
         }
+        for (CodegenProperty codegenProperty : codegenModel.getVars()) {
+            vars.putIfAbsent(codegenProperty.baseName, codegenProperty);
+        }
+        return vars;
     }
 
     protected void configureModel(CodegenModel codegenModel, String name) {
@@ -193,7 +251,7 @@ public class SchemaHandler implements ISchemaHandler {
     }
 
     protected void addComposedModel(CodegenModel composedModel) {
-        if (composedModel == null) {
+        if (composedModel == null || !addedComposedModels.add(composedModel)) {
             return;
         }
         this.composedModels.add(composedModel);
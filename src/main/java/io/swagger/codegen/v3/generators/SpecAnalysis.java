@@ -0,0 +1,116 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.examples.ExampleCache;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.generators.util.SchemaDependencyGraph;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Language neutral facts of an OpenAPI document, computed once and shared by the generators of that document, see
+ * {@link MultiLanguageGenerator}: $ref index, type aliases, dependencies between models and examples of the
+ * referenced models.
+ *
+ * Generators change the document they generate, so each one is given its own copy, see {@link #copyOpenAPI()}; the
+ * analysis is made on a copy of its own, which is never changed.
+ */
+public class SpecAnalysis {
+
+    private final byte[] document;
+    private final OpenAPI openAPI;
+    private final RefIndex refIndex;
+    private final Map<String, String> aliases;
+    private final SchemaDependencyGraph schemaDependencyGraph;
+    private final ExampleCache exampleCache = new ExampleCache();
+
+    private SpecAnalysis(byte[] document) {
+        this.document = document;
+        this.openAPI = readDocument(document);
+        this.refIndex = new RefIndex(openAPI);
+        this.aliases = Collections.unmodifiableMap(DefaultCodegenConfig.getAllAliases(
+                openAPI.getComponents() == null ? null : openAPI.getComponents().getSchemas()));
+        this.schemaDependencyGraph = new SchemaDependencyGraph(refIndex);
+    }
+
+    /**
+     * @param openAPI parsed document, resolved and flattened as for a single generation
+     * @return analysis of the document, the given document is not kept
+     */
+    public static SpecAnalysis of(OpenAPI openAPI) {
+        try {
+            return new SpecAnalysis(Json.mapper().writeValueAsBytes(openAPI));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not serialize OpenAPI document", e);
+        }
+    }
+
+    /**
+     * @param location path or url of the document
+     * @return analysis of the document, parsed once with the options of a single generation
+     */
+    public static SpecAnalysis parse(String location) {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        final SwaggerParseResult result = new OpenAPIV3Parser().readLocation(location, null, options);
+        if (result == null || result.getOpenAPI() == null) {
+            throw new RuntimeException("Could not parse " + location
+                    + (result == null || result.getMessages() == null ? "" : ": " + result.getMessages()));
+        }
+        return of(result.getOpenAPI());
+    }
+
+    /**
+     * @return new copy of the document, to be changed by a generator
+     */
+    public OpenAPI copyOpenAPI() {
+        return readDocument(document);
+    }
+
+    /**
+     * @return analyzed document, not to be changed
+     */
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    public RefIndex getRefIndex() {
+        return refIndex;
+    }
+
+    /**
+     * @return type of the models which are aliases of simple types, by model name
+     */
+    public Map<String, String> getAliases() {
+        return aliases;
+    }
+
+    public SchemaDependencyGraph getSchemaDependencyGraph() {
+        return schemaDependencyGraph;
+    }
+
+    /**
+     * Examples only depend on their schema (their numbers are seeded with the property path), so a generator gets
+     * the same examples from the shared cache as from its own, whichever generator filled it first.
+     *
+     * @return examples of referenced models, shared by the generators
+     */
+    public ExampleCache getExampleCache() {
+        return exampleCache;
+    }
+
+    private static OpenAPI readDocument(byte[] document) {
+        try {
+            return Json.mapper().readValue(document, OpenAPI.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read OpenAPI document", e);
+        }
+    }
+}
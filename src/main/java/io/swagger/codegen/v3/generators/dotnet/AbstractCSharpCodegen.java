@@ -16,6 +16,7 @@ import io.swagger.codegen.v3.generators.handlebars.lambda.IndentedLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.LowercaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -39,8 +40,10 @@ import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -84,86 +87,67 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
     protected Logger LOGGER = LoggerFactory.getLogger(AbstractCSharpCodegen.class);
 
-    public AbstractCSharpCodegen() {
-        super();
-
-        supportsInheritance = true;
-
-        // C# does not use import mapping
-        importMapping.clear();
-
-        outputFolder = "generated-code" + File.separator + this.getName();
-
-        collectionTypes = new HashSet<String>(
-                Arrays.asList(
-                        "IList", "List",
-                        "ICollection", "Collection",
-                        "IEnumerable")
-        );
-
-        mapTypes = new HashSet<String>(
-                Arrays.asList("IDictionary")
-        );
-
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // set "client" as a reserved word to avoid conflicts with IO.Swagger.Client
-                        // this is a workaround and can be removed if c# api client is updated to use
-                        // fully qualified name
-                        "Client", "client", "parameter", "File",
-                        // local variable names in API methods (endpoints)
-                        "localVarPath", "localVarPathParams", "localVarQueryParams", "localVarHeaderParams",
-                        "localVarFormParams", "localVarFileParams", "localVarStatusCode", "localVarResponse",
-                        "localVarPostBody", "localVarHttpHeaderAccepts", "localVarHttpHeaderAccept",
-                        "localVarHttpContentTypes", "localVarHttpContentType",
-                        "localVarStatusCode",
-                        // C# reserved words
-                        "abstract", "as", "base", "bool", "break", "byte", "case", "catch", "char", "checked",
-                        "class", "const", "continue", "decimal", "default", "delegate", "do", "double", "else",
-                        "enum", "event", "explicit", "extern", "false", "finally", "fixed", "float", "for",
-                        "foreach", "goto", "if", "implicit", "in", "int", "interface", "internal", "is", "lock",
-                        "long", "namespace", "new", "null", "object", "operator", "out", "override", "params",
-                        "private", "protected", "public", "readonly", "ref", "return", "sbyte", "sealed",
-                        "short", "sizeof", "stackalloc", "static", "string", "struct", "switch", "this", "throw",
-                        "true", "try", "typeof", "uint", "ulong", "unchecked", "unsafe", "ushort", "using",
-                        "virtual", "void", "volatile", "while")
-        );
-
-        // TODO: Either include fully qualified names here or handle in DefaultCodegen via lastIndexOf(".") search
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "String",
-                        "string",
-                        "bool?",
-                        "double?",
-                        "decimal?",
-                        "int?",
-                        "long?",
-                        "float?",
-                        "byte[]",
-                        "ICollection",
-                        "Collection",
-                        "List",
-                        "Dictionary",
-                        "DateTime?",
-                        "DateTimeOffset?",
-                        "String",
-                        "Boolean",
-                        "Double",
-                        "Int32",
-                        "Int64",
-                        "Float",
-                        "Guid?",
-                        "System.IO.Stream", // not really a primitive, we include it to avoid model import
-                        "Object")
-        );
-
-        instantiationTypes.put("array", "List");
-        instantiationTypes.put("list", "List");
-        instantiationTypes.put("map", "Dictionary");
-
-        // Nullable types here assume C# 2 support is not part of base
-        typeMapping = new HashMap<String, String>();
+    private static final Set<String> COLLECTION_TYPES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "IList", "List",
+                    "ICollection", "Collection",
+                    "IEnumerable")));
+
+    private static final Set<String> MAP_TYPES = Collections.singleton("IDictionary");
+
+    private static final Set<String> RESERVED_WORDS = lowerCaseSet(
+            // set "client" as a reserved word to avoid conflicts with IO.Swagger.Client
+            // this is a workaround and can be removed if c# api client is updated to use
+            // fully qualified name
+            "Client", "client", "parameter", "File",
+            // local variable names in API methods (endpoints)
+            "localVarPath", "localVarPathParams", "localVarQueryParams", "localVarHeaderParams",
+            "localVarFormParams", "localVarFileParams", "localVarStatusCode", "localVarResponse",
+            "localVarPostBody", "localVarHttpHeaderAccepts", "localVarHttpHeaderAccept",
+            "localVarHttpContentTypes", "localVarHttpContentType",
+            "localVarStatusCode",
+            // C# reserved words
+            "abstract", "as", "base", "bool", "break", "byte", "case", "catch", "char", "checked",
+            "class", "const", "continue", "decimal", "default", "delegate", "do", "double", "else",
+            "enum", "event", "explicit", "extern", "false", "finally", "fixed", "float", "for",
+            "foreach", "goto", "if", "implicit", "in", "int", "interface", "internal", "is", "lock",
+            "long", "namespace", "new", "null", "object", "operator", "out", "override", "params",
+            "private", "protected", "public", "readonly", "ref", "return", "sbyte", "sealed",
+            "short", "sizeof", "stackalloc", "static", "string", "struct", "switch", "this", "throw",
+            "true", "try", "typeof", "uint", "ulong", "unchecked", "unsafe", "ushort", "using",
+            "virtual", "void", "volatile", "while");
+
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "String",
+                    "string",
+                    "bool?",
+                    "double?",
+                    "decimal?",
+                    "int?",
+                    "long?",
+                    "float?",
+                    "byte[]",
+                    "ICollection",
+                    "Collection",
+                    "List",
+                    "Dictionary",
+                    "DateTime?",
+                    "DateTimeOffset?",
+                    "String",
+                    "Boolean",
+                    "Double",
+                    "Int32",
+                    "Int64",
+                    "Float",
+                    "Guid?",
+                    "System.IO.Stream", // not really a primitive, we include it to avoid model import
+                    "Object")));
+
+    private static final Map<String, String> TYPE_MAPPING;
+
+    static {
+        final Map<String, String> typeMapping = new HashMap<String, String>();
         typeMapping.put("string", "string");
         typeMapping.put("binary", "byte[]");
         typeMapping.put("bytearray", "byte[]");
@@ -183,6 +167,41 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
         typeMapping.put("map", "Dictionary");
         typeMapping.put("object", "Object");
         typeMapping.put("uuid", "Guid?");
+        TYPE_MAPPING = Collections.unmodifiableMap(typeMapping);
+    }
+
+    public AbstractCSharpCodegen() {
+        super();
+
+        supportsInheritance = true;
+
+        // remove " to avoid code injection
+        quotationMarkEscaper = new TextEscaper().removeCharacter('"');
+        unsafeCharactersEscaper = new TextEscaper()
+                .addSequenceReplacement("*/", "*_/")
+                .addSequenceReplacement("/*", "/_*")
+                .addSequenceReplacement("--", "- -")
+                .addSequenceReplacement("~~N1", "\n    /// ")
+                .addSequenceReplacement("~~N2", "\n        /// ");
+
+        // C# does not use import mapping
+        importMapping.clear();
+
+        outputFolder = "generated-code" + File.separator + this.getName();
+
+        collectionTypes = new HashSet<String>(COLLECTION_TYPES);
+        mapTypes = new HashSet<String>(MAP_TYPES);
+
+        setReservedWords(RESERVED_WORDS);
+        // TODO: Either include fully qualified names here or handle in DefaultCodegen via lastIndexOf(".") search
+        languageSpecificPrimitives = new HashSet<String>(LANGUAGE_SPECIFIC_PRIMITIVES);
+
+        instantiationTypes.put("array", "List");
+        instantiationTypes.put("list", "List");
+        instantiationTypes.put("map", "Dictionary");
+
+        // Nullable types here assume C# 2 support is not part of base
+        typeMapping = new HashMap<String, String>(TYPE_MAPPING);
     }
 
     public void setReturnICollection(boolean returnICollection) {
@@ -414,31 +433,49 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
      * When working with enums, we can't always assume a RefModel is a nullable type (where default(YourType) == null),
      * so this post processing runs through all models to find RefModel'd enums. Then, it runs through all vars and modifies
      * those vars referencing RefModel'd enums to work the same as inlined enums rather than as objects.
+     *
+     * The allowable values of an enum are computed once, and shared (read only) by all the vars referencing it.
      * @param models processed models to be further processed for enum references
      */
     @SuppressWarnings({ "unchecked" })
     private void postProcessEnumRefs(final Map<String, Object> models) {
-        Map<String, CodegenModel> enumRefs = new HashMap<String, CodegenModel>();
-        for (Map.Entry<String, Object> entry : models.entrySet()) {
-            CodegenModel model = ModelUtils.getModelByName(entry.getKey(), models);
-            boolean isEnum = getBooleanValue(model, IS_ENUM_EXT_NAME);
-            if (isEnum) {
-                enumRefs.put(entry.getKey(), model);
+        final Map<String, CodegenModel> modelsByName = new LinkedHashMap<>();
+        final Map<String, CodegenModel> enumRefs = new HashMap<>();
+        for (String swaggerName : models.keySet()) {
+            final CodegenModel model = ModelUtils.getModelByName(swaggerName, models);
+            modelsByName.put(swaggerName, model);
+            if (getBooleanValue(model, IS_ENUM_EXT_NAME)) {
+                enumRefs.put(swaggerName, model);
             }
         }
 
-        for (Map.Entry<String, Object> entry : models.entrySet()) {
+        final Map<String, Map<String, Object>> enumRefAllowableValues = new HashMap<>();
+        for (Map.Entry<String, CodegenModel> entry : modelsByName.entrySet()) {
             String swaggerName = entry.getKey();
-            CodegenModel model = ModelUtils.getModelByName(swaggerName, models);
+            CodegenModel model = entry.getValue();
             if (model != null) {
                 for (CodegenProperty var : model.allVars) {
                     if (enumRefs.containsKey(var.datatype)) {
                         // Handle any enum properties referred to by $ref.
                         // This is different in C# than most other generators, because enums in C# are compiled to integral types,
                         // while enums in many other languages are true objects.
-                        CodegenModel refModel = enumRefs.get(var.datatype);
-                        var.allowableValues = new HashMap<>(refModel.allowableValues);
-                        updateCodegenPropertyEnum(var);
+                        final Map<String, Object> allowableValues = enumRefAllowableValues.get(var.datatype);
+                        if (allowableValues != null && var.items == null) {
+                            var.allowableValues = allowableValues;
+                            if (var.vendorExtensions == null) {
+                                var.vendorExtensions = new HashMap<>();
+                            }
+                            updateEnumDefaultValue(var, (List<Map<String, String>>) allowableValues.get("enumVars"));
+                            updateEnumDataFormat(var);
+                        } else {
+                            CodegenModel refModel = enumRefs.get(var.datatype);
+                            var.allowableValues = new HashMap<>(refModel.allowableValues);
+                            updateCodegenPropertyEnum(var);
+                            if (var.items == null && var.allowableValues.get("enumVars") != null) {
+                                var.allowableValues = readOnlyAllowableValues(var.allowableValues);
+                                enumRefAllowableValues.put(var.datatype, var.allowableValues);
+                            }
+                        }
 
                         // We do these after updateCodegenPropertyEnum to avoid generalities that don't mesh with C#.
                         var.getVendorExtensions().put(CodegenConstants.IS_PRIMITIVE_TYPE_EXT_NAME, Boolean.TRUE);
@@ -496,6 +533,17 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
         }
     }
 
+    @SuppressWarnings({ "unchecked" })
+    private static Map<String, Object> readOnlyAllowableValues(Map<String, Object> allowableValues) {
+        final List<Map<String, String>> enumVars = new ArrayList<>();
+        for (Map<String, String> enumVar : (List<Map<String, String>>) allowableValues.get("enumVars")) {
+            enumVars.add(Collections.unmodifiableMap(enumVar));
+        }
+        final Map<String, Object> readOnly = new HashMap<>(allowableValues);
+        readOnly.put("enumVars", Collections.unmodifiableList(enumVars));
+        return Collections.unmodifiableMap(readOnly);
+    }
+
     /**
      * Update codegen property's enum by adding "enumVars" (with name and value)
      *
@@ -509,6 +557,10 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
         super.updateCodegenPropertyEnum(var);
 
+        updateEnumDataFormat(var);
+    }
+
+    private void updateEnumDataFormat(CodegenProperty var) {
         // Because C# uses nullable primitives for datatype, and datatype is used in DefaultCodegen for determining enum-ness, guard against weirdness here.
         if (getBooleanValue(var, CodegenConstants.IS_ENUM_EXT_NAME)) {
             if ("byte".equals(var.dataFormat)) {// C# Actually supports byte and short enums.
@@ -1050,22 +1102,6 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
         }
     }
 
-    @Override
-    public String escapeQuotationMark(String input) {
-        // remove " to avoid code injection
-        return input.replace("\"", "");
-    }
-
-    @Override
-    public String escapeUnsafeCharacters(String input) {
-        String intermediate = input.replace("*/", "*_/").replace("/*", "/_*").replace("--", "- -");
-
-        intermediate = intermediate.replaceAll("~~N1", "\n    /// ");
-        intermediate = intermediate.replaceAll("~~N2", "\n        /// ");
-
-        return intermediate;
-    }
-
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
         super.addHandlebarHelpers(handlebars);
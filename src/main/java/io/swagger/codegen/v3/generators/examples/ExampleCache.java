@@ -0,0 +1,47 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Examples of referenced models for a single generation, shared by the example generators of all operations.
+ * Keys are the model ref and the media type.
+ */
+public class ExampleCache {
+
+    private final Map<String, Object> examples = new ConcurrentHashMap<>();
+    private final Map<String, String> serializedExamples = new ConcurrentHashMap<>();
+
+    public Object getExample(String ref, String mediaType) {
+        return examples.get(key(ref, mediaType));
+    }
+
+    public void putExample(String ref, String mediaType, Object example) {
+        if (example != null) {
+            examples.put(key(ref, mediaType), example);
+        }
+    }
+
+    public String getSerializedExample(String ref, String mediaType) {
+        return serializedExamples.get(key(ref, mediaType));
+    }
+
+    public void putSerializedExample(String ref, String mediaType, String example) {
+        if (example != null) {
+            serializedExamples.put(key(ref, mediaType), example);
+        }
+    }
+
+    public int size() {
+        return examples.size();
+    }
+
+    public void clear() {
+        examples.clear();
+        serializedExamples.clear();
+    }
+
+    private static String key(String ref, String mediaType) {
+        return mediaType + ' ' + ref;
+    }
+}
@@ -1,6 +1,6 @@
 package io.swagger.codegen.v3.generators.examples;
 
-import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.RefIndex;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -23,7 +23,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -43,16 +42,38 @@ public class ExampleGenerator {
     private static final String NONE = "none";
     private static final String URL = "url";
     private static final String URI = "uri";
+    private static final String XML_ROOT = "root";
 
     protected Map<String, Schema> examples;
-    private Random random;
     private OpenAPI openAPI;
+    private RefIndex refIndex;
+    private final ExampleCache exampleCache;
 
     public ExampleGenerator(OpenAPI openAPI) {
+        this(openAPI, null);
+    }
+
+    public ExampleGenerator(OpenAPI openAPI, RefIndex refIndex) {
+        this(openAPI, refIndex, new ExampleCache());
+    }
+
+    /**
+     * @param openAPI OpenAPI document
+     * @param refIndex $ref resolution index of the document, built on first use if null
+     * @param exampleCache examples of referenced models, shared by the example generators of a same generation
+     */
+    public ExampleGenerator(OpenAPI openAPI, RefIndex refIndex, ExampleCache exampleCache) {
         //this.examples = examples;
         this.openAPI = openAPI;
-        // use a fixed seed to make the "random" numbers reproducible.
-        this.random = new Random("ExampleGenerator".hashCode());
+        this.refIndex = refIndex;
+        this.exampleCache = exampleCache;
+    }
+
+    private RefIndex getRefIndex() {
+        if (refIndex == null) {
+            refIndex = new RefIndex(openAPI);
+        }
+        return refIndex;
     }
 
     public List<Map<String, String>> generateFromSchema(Schema schema, Set<String> producesInfo) {
@@ -61,7 +82,7 @@ public class ExampleGenerator {
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, Schema schema) {
         List<Map<String, String>> output = new ArrayList<>();
-        Set<String> processedModels = new HashSet<>();
+        final Resolution resolution = new Resolution();
         if (examples == null) {
             if (mediaTypes == null) {
                 // assume application/json for this
@@ -77,19 +98,17 @@ public class ExampleGenerator {
                 kv.put(CONTENT_TYPE, mediaType);
 
                 if (mediaType.startsWith(MIME_TYPE_JSON)) {
-                    String example = Json.pretty(resolveSchemaToExample("", mediaType, schema, processedModels));
+                    String example = toJsonExample(mediaType, schema, resolution);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 } else if (mediaType.startsWith(MIME_TYPE_XML)) {
-                    /** todo: add xml generator
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = toXmlExample(mediaType, schema);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
-                     */
                 }
             }
         } else {
@@ -110,7 +129,7 @@ public class ExampleGenerator {
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, String modelName) {
         List<Map<String, String>> output = new ArrayList<>();
-        Set<String> processedModels = new HashSet<>();
+        final Resolution resolution = new Resolution();
         if (examples == null) {
             if (mediaTypes == null) {
                 // assume application/json for this
@@ -122,7 +141,7 @@ public class ExampleGenerator {
                 if (modelName != null && mediaType.startsWith(MIME_TYPE_JSON)) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, resolution));
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -131,13 +150,13 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    /** todo: add xml example generator
-                     * String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.<String>emptySet());
-                    if (example != null) {
-                        kv.put(EXAMPLE, example);
-                        output.add(kv);
+                    if (schema != null) {
+                        String example = new XmlExampleGenerator(this, getRefIndex(), mediaType).toXml(modelName, schema);
+                        if (example != null) {
+                            kv.put(EXAMPLE, example);
+                            output.add(kv);
+                        }
                     }
-                    */
                 }
             }
         } else {
@@ -156,13 +175,50 @@ public class ExampleGenerator {
         return output;
     }
 
-    private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema, Set<String> processedModels) {
-        if (processedModels.contains(schema.get$ref())) {
-            return schema.getExample();
+    private String toJsonExample(String mediaType, Schema schema, Resolution resolution) {
+        final String ref = schema.get$ref();
+        if (StringUtils.isBlank(ref) || schema.getExample() != null) {
+            return Json.pretty(resolveSchemaToExample("", mediaType, schema, resolution));
+        }
+        // a referenced model is rendered the same way for all operations
+        String example = exampleCache.getSerializedExample(ref, mediaType);
+        if (example == null) {
+            example = Json.pretty(resolveSchemaToExample("", mediaType, schema, resolution));
+            exampleCache.putSerializedExample(ref, mediaType, example);
+        }
+        return example;
+    }
+
+    private String toXmlExample(String mediaType, Schema schema) {
+        final String ref = schema.get$ref();
+        if (StringUtils.isBlank(ref)) {
+            final String name = schema.getName() != null ? schema.getName() : XML_ROOT;
+            return new XmlExampleGenerator(this, getRefIndex(), mediaType).toXml(name, schema);
+        }
+        String example = exampleCache.getSerializedExample(ref, mediaType);
+        if (example == null) {
+            example = new XmlExampleGenerator(this, getRefIndex(), mediaType).toXml(getRefIndex().getName(ref), schema);
+            exampleCache.putSerializedExample(ref, mediaType, example);
         }
-        if (StringUtils.isNotBlank(schema.get$ref())) {
-            processedModels.add(schema.get$ref());
+        return example;
+    }
+
+    /**
+     * @param ownerRef ref of the model holding the property, null for an inline schema
+     * @param propertyName name of the property
+     * @param mediaType media type of the example
+     * @param schema schema of the property
+     * @return example value of the property, same as in JSON examples
+     */
+    Object resolvePropertyToExample(String ownerRef, String propertyName, String mediaType, Schema schema) {
+        final Resolution resolution = new Resolution();
+        if (ownerRef != null) {
+            resolution.push(ownerRef);
         }
+        return resolveSchemaToExample(propertyName, mediaType, schema, resolution);
+    }
+
+    private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema, Resolution resolution) {
         if (schema.getExample() != null) {
             logger.debug("Example set in swagger spec, returning example: '{}'", schema.getExample().toString());
             return schema.getExample();
@@ -196,7 +252,7 @@ public class ExampleGenerator {
             if (innerType != null) {
                 int arrayLength = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
                 Object[] objectProperties = new Object[arrayLength];
-                Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, processedModels);
+                Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, resolution);
                 for(int i=0; i < arrayLength; i++) {
                     objectProperties[i] = objProperty;
                 }
@@ -210,48 +266,38 @@ public class ExampleGenerator {
             Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
             Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
             if(SchemaTypeUtil.FLOAT_FORMAT.equals(schema.getFormat())) {
-                return (float) randomNumber(min, max);
+                return (float) randomNumber(resolution.getPath(propertyName), min, max);
             }
-            return randomNumber(min, max);
+            return randomNumber(resolution.getPath(propertyName), min, max);
         } else if (schema instanceof FileSchema) {
             return "";  // TODO
         } else if (schema instanceof IntegerSchema) {
             Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
             Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
             if(SchemaTypeUtil.INTEGER32_FORMAT.equals(schema.getFormat())) {
-                return (long) randomNumber(min, max);
+                return (long) randomNumber(resolution.getPath(propertyName), min, max);
             }
-            return (int) randomNumber(min, max);
+            return (int) randomNumber(resolution.getPath(propertyName), min, max);
         } else if (schema instanceof MapSchema && schema.getAdditionalProperties() != null && schema.getAdditionalProperties() instanceof Schema) {
             Map<String, Object> mp = new HashMap<String, Object>();
             if (schema.getName() != null) {
                 mp.put(schema.getName(),
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), resolution));
             } else {
                 mp.put("key",
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), resolution));
             }
             return mp;
         } else if (!StringUtils.isEmpty(schema.get$ref())) { // model
-            String simpleName = OpenAPIUtil.getSimpleRef(schema.get$ref());
-            Schema model = null;
-            if (openAPI != null && openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
-                model = openAPI.getComponents().getSchemas().get(simpleName);
-            }
-
-            if (model == null) { // couldn't find the model/schema
-                return "{}";
-            }
-            return resolveSchemaToExample(propertyName, mediaType, model, processedModels);
+            return resolveRefToExample(propertyName, mediaType, schema, resolution);
         } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
             Map<String, Object> values = new HashMap<>();
             if (schema.getProperties() != null) {
                 logger.debug("Creating example from model values");
                 for (Object propName : schema.getProperties().keySet()) {
                     Schema schemaProperty = (Schema) schema.getProperties().get(propName.toString());
-                    values.put(propName.toString(), resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, processedModels));
+                    values.put(propName.toString(), resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, resolution));
                 }
-                schema.setExample(values);
             }
             return values;
         } else if (schema instanceof UUIDSchema) {
@@ -260,7 +306,52 @@ public class ExampleGenerator {
         return "";
     }
 
-    private double randomNumber(Double min, Double max) {
+    private Object resolveRefToExample(String propertyName, String mediaType, Schema schema, Resolution resolution) {
+        final String ref = schema.get$ref();
+        if (resolution.isResolving(ref)) {
+            // recursive model, stop here
+            resolution.cut(ref);
+            return schema.getExample();
+        }
+        final Object cachedExample = exampleCache.getExample(ref, mediaType);
+        if (cachedExample != null) {
+            return cachedExample;
+        }
+        final Schema model = getRefIndex().getSchema(ref);
+        if (model == null) { // couldn't find the model/schema
+            return "{}";
+        }
+        resolution.push(ref);
+        final Object example = resolveSchemaToExample(propertyName, mediaType, model, resolution);
+        final boolean independent = resolution.pop();
+        // examples of other schemas (strings, arrays, maps...) may depend on the property name
+        if (independent && isObjectExample(model)) {
+            exampleCache.putExample(ref, mediaType, example);
+        }
+        return example;
+    }
+
+    private static boolean isObjectExample(Schema model) {
+        if (model.getExample() != null) {
+            return true;
+        }
+        if (model instanceof StringSchema || model instanceof BooleanSchema || model instanceof ArraySchema
+                || model instanceof DateSchema || model instanceof DateTimeSchema || model instanceof NumberSchema
+                || model instanceof FileSchema || model instanceof IntegerSchema || model instanceof MapSchema
+                || StringUtils.isNotEmpty(model.get$ref())) {
+            return false;
+        }
+        return model instanceof ObjectSchema || model.getProperties() != null;
+    }
+
+    /**
+     * The "random" numbers are seeded with the path of the property, so that an example does not depend on the
+     * examples generated before it, and a cached model example is the same whichever operation generated it first.
+     *
+     * @param path model ref and property name of the number
+     */
+    private static double randomNumber(String path, Double min, Double max) {
+        final Random random = new Random(path.hashCode());
         if (min != null && max != null) {
             double range = max - min;
             return random.nextDouble() * range + min;
@@ -273,13 +364,7 @@ public class ExampleGenerator {
         }
     }
 
-    private Object resolveModelToExample(String name, String mediaType, Schema schema, Set<String> processedModels) {
-        if (processedModels.contains(schema.get$ref())) {
-            return schema.getExample();
-        }
-        if (StringUtils.isNotBlank(schema.get$ref())) {
-            processedModels.add(schema.get$ref());
-        }
+    private Object resolveModelToExample(String name, String mediaType, Schema schema, Resolution resolution) {
         Map<String, Object> values = new HashMap<>();
 
         logger.debug("Resolving model '{}' to example", name);
@@ -291,11 +376,53 @@ public class ExampleGenerator {
             logger.debug("Creating example from model values");
             for (Object propertyName : schema.getProperties().keySet()) {
                 schema.getProperties().get(propertyName.toString());
-                values.put(propertyName.toString(), resolveSchemaToExample(propertyName.toString(), mediaType, schema, processedModels));
+                values.put(propertyName.toString(), resolveSchemaToExample(propertyName.toString(), mediaType, schema, resolution));
             }
-            schema.setExample(values);
         }
         return values;
     }
+
+    /**
+     * Models being resolved for one example, to stop on recursive models. Examples resolved while stopping on one
+     * of their ancestors depend on the path they were reached from, so they are not cached.
+     */
+    private static class Resolution {
+
+        private final List<String> refs = new ArrayList<>();
+        private int lowestCut = Integer.MAX_VALUE;
+
+        /**
+         * @return path of the given property of the model being resolved
+         */
+        String getPath(String propertyName) {
+            final String ref = refs.isEmpty() ? "" : refs.get(refs.size() - 1);
+            return ref + '/' + propertyName;
+        }
+
+        boolean isResolving(String ref) {
+            return refs.contains(ref);
+        }
+
+        void cut(String ref) {
+            lowestCut = Math.min(lowestCut, refs.indexOf(ref));
+        }
+
+        void push(String ref) {
+            refs.add(ref);
+        }
+
+        /**
+         * @return true if the example of the removed model does not depend on the models still being resolved
+         */
+        boolean pop() {
+            final int index = refs.size() - 1;
+            refs.remove(index);
+            if (lowestCut >= index) {
+                lowestCut = Integer.MAX_VALUE;
+                return true;
+            }
+            return false;
+        }
+    }
 }
 
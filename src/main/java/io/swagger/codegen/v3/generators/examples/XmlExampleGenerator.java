@@ -0,0 +1,271 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the XML example of a schema with a streaming writer, honoring the xml object of the schemas (name, prefix,
+ * namespace, attribute and wrapped). Leaf values are the ones of the JSON examples.
+ */
+class XmlExampleGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XmlExampleGenerator.class);
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private static final String INDENT = "  ";
+    private static final String MAP_KEY = "key";
+
+    private final ExampleGenerator exampleGenerator;
+    private final RefIndex refIndex;
+    private final String mediaType;
+
+    // refs of the models being written, to stop on recursive models
+    private final List<String> refs = new ArrayList<>();
+    // for each open element, whether it has child elements
+    private final Deque<Boolean> openElements = new ArrayDeque<>();
+    private XMLStreamWriter writer;
+    private boolean started;
+
+    XmlExampleGenerator(ExampleGenerator exampleGenerator, RefIndex refIndex, String mediaType) {
+        this.exampleGenerator = exampleGenerator;
+        this.refIndex = refIndex;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * @param name name of the root element, unless the xml object of the schema names it
+     * @param schema schema of the root element
+     * @return XML example, null if it can't be written
+     */
+    String toXml(String name, Schema schema) {
+        final StringWriter out = new StringWriter();
+        try {
+            writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(out);
+            if (schema instanceof ArraySchema && schema.getExample() == null) {
+                writeRootArray(name, (ArraySchema) schema);
+            } else {
+                writeSchema(name, schema.getXml(), schema);
+            }
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            LOGGER.warn("Could not write XML example of '{}': {}", name, e.getMessage());
+            return null;
+        }
+        return out.toString();
+    }
+
+    private void writeSchema(String name, XML xml, Schema schema) throws XMLStreamException {
+        if (StringUtils.isNotEmpty(schema.get$ref())) {
+            final String ref = schema.get$ref();
+            if (refs.contains(ref)) {
+                // recursive model, stop here
+                return;
+            }
+            final Schema model = refIndex.getSchema(ref);
+            if (model == null) {
+                writeValue(name, xml, "");
+                return;
+            }
+            refs.add(ref);
+            writeSchema(name, xml != null ? xml : model.getXml(), model);
+            refs.remove(refs.size() - 1);
+        } else if (schema.getExample() != null) {
+            writeValue(name, xml, schema.getExample());
+        } else if (schema instanceof ArraySchema) {
+            writeArray(name, xml, (ArraySchema) schema);
+        } else if (schema instanceof MapSchema && schema.getAdditionalProperties() instanceof Schema) {
+            startElement(name, xml);
+            final String key = schema.getName() != null ? schema.getName() : MAP_KEY;
+            final Schema valueSchema = (Schema) schema.getAdditionalProperties();
+            writeSchema(key, valueSchema.getXml(), valueSchema);
+            endElement();
+        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
+            writeObject(name, xml, schema);
+        } else {
+            writeValue(name, xml, exampleGenerator.resolvePropertyToExample(getOwnerRef(), name, mediaType, schema));
+        }
+    }
+
+    private String getOwnerRef() {
+        return refs.isEmpty() ? null : refs.get(refs.size() - 1);
+    }
+
+    private void writeObject(String name, XML xml, Schema schema) throws XMLStreamException {
+        startElement(name, xml);
+        final Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            // attributes go first, before any child element
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                final XML propertyXml = property.getValue().getXml();
+                if (isAttribute(propertyXml)) {
+                    final Object value = exampleGenerator.resolvePropertyToExample(getOwnerRef(), property.getKey(), mediaType, property.getValue());
+                    writeAttribute(property.getKey(), propertyXml, value);
+                }
+            }
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                final Schema propertySchema = property.getValue();
+                if (!isAttribute(propertySchema.getXml())) {
+                    writeSchema(property.getKey(), propertySchema.getXml(), propertySchema);
+                }
+            }
+        }
+        endElement();
+    }
+
+    private void writeRootArray(String name, ArraySchema schema) throws XMLStreamException {
+        // a document has a single root element, items are named after their model
+        final Schema items = schema.getItems();
+        startElement(name, schema.getXml());
+        if (items != null) {
+            final String itemName = StringUtils.isNotEmpty(items.get$ref()) ? refIndex.getName(items.get$ref()) : name;
+            writeSchema(itemName, items.getXml(), items);
+        }
+        endElement();
+    }
+
+    private void writeArray(String name, XML xml, ArraySchema schema) throws XMLStreamException {
+        final Schema items = schema.getItems();
+        final boolean wrapped = xml != null && Boolean.TRUE.equals(xml.getWrapped());
+        if (wrapped) {
+            startElement(name, xml);
+        }
+        if (items != null) {
+            // unwrapped items are named after the property, unless named by their own xml object
+            final String itemName = wrapped || xml == null || StringUtils.isBlank(xml.getName()) ? name : xml.getName();
+            writeSchema(itemName, items.getXml(), items);
+        }
+        if (wrapped) {
+            endElement();
+        }
+    }
+
+    private void writeValue(String name, XML xml, Object value) throws XMLStreamException {
+        if (value instanceof JsonNode) {
+            writeNode(name, xml, (JsonNode) value);
+        } else if (value instanceof Collection) {
+            for (Object item : (Collection) value) {
+                writeValue(name, xml, item);
+            }
+        } else if (value != null && value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                writeValue(name, xml, Array.get(value, i));
+            }
+        } else if (value instanceof Map) {
+            startElement(name, xml);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writeValue(String.valueOf(entry.getKey()), null, entry.getValue());
+            }
+            endElement();
+        } else {
+            startElement(name, xml);
+            if (value != null) {
+                writer.writeCharacters(value.toString());
+            }
+            endElement();
+        }
+    }
+
+    private void writeNode(String name, XML xml, JsonNode node) throws XMLStreamException {
+        if (node.isArray()) {
+            for (JsonNode item : node) {
+                writeNode(name, xml, item);
+            }
+        } else if (node.isObject()) {
+            startElement(name, xml);
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                writeNode(field.getKey(), null, field.getValue());
+            }
+            endElement();
+        } else {
+            writeValue(name, xml, node.isNull() ? null : node.asText());
+        }
+    }
+
+    private void startElement(String name, XML xml) throws XMLStreamException {
+        if (!openElements.isEmpty()) {
+            openElements.pop();
+            openElements.push(Boolean.TRUE);
+        }
+        if (started) {
+            newLine(openElements.size());
+        }
+        started = true;
+        final String elementName = getName(name, xml);
+        final String prefix = xml == null ? null : xml.getPrefix();
+        final String namespace = xml == null ? null : xml.getNamespace();
+        if (StringUtils.isNotBlank(namespace)) {
+            writer.writeStartElement(StringUtils.defaultString(prefix), elementName, namespace);
+            if (StringUtils.isBlank(prefix)) {
+                writer.writeDefaultNamespace(namespace);
+            } else {
+                writer.writeNamespace(prefix, namespace);
+            }
+        } else if (StringUtils.isNotBlank(prefix)) {
+            writer.writeStartElement(prefix, elementName, StringUtils.EMPTY);
+        } else {
+            writer.writeStartElement(elementName);
+        }
+        openElements.push(Boolean.FALSE);
+    }
+
+    private void endElement() throws XMLStreamException {
+        if (openElements.pop()) {
+            newLine(openElements.size());
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeAttribute(String name, XML xml, Object value) throws XMLStreamException {
+        final String attributeName = getName(name, xml);
+        final String attributeValue = value == null ? StringUtils.EMPTY : value.toString();
+        final String prefix = xml.getPrefix();
+        if (StringUtils.isBlank(prefix)) {
+            writer.writeAttribute(attributeName, attributeValue);
+            return;
+        }
+        final String namespace = StringUtils.defaultString(xml.getNamespace());
+        writer.writeAttribute(prefix, namespace, attributeName, attributeValue);
+        if (StringUtils.isNotBlank(namespace)) {
+            writer.writeNamespace(prefix, namespace);
+        }
+    }
+
+    private void newLine(int depth) throws XMLStreamException {
+        writer.writeCharacters("\n" + StringUtils.repeat(INDENT, depth));
+    }
+
+    private static boolean isAttribute(XML xml) {
+        return xml != null && Boolean.TRUE.equals(xml.getAttribute());
+    }
+
+    private static String getName(String name, XML xml) {
+        if (xml != null && StringUtils.isNotBlank(xml.getName())) {
+            return xml.getName();
+        }
+        return name;
+    }
+}
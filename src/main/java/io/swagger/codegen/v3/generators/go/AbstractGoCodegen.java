@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.CaseFormatUtil;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -129,8 +130,8 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toVarName(String name) {
-        // replace - with _ e.g. created-at => created_at
-        name = sanitizeName(name.replaceAll("-", "_"));
+        // replace - with _ e.g. created-at => created_at (done by sanitizeName)
+        name = sanitizeName(name);
 
         // if it's all uppper case, do nothing
         if (name.matches("^[A-Z_]*$"))
@@ -499,7 +500,7 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
         }
 
         // string
-        String enumName = sanitizeName(underscore(name).toUpperCase());
+        String enumName = sanitizeName(CaseFormatUtil.screamingSnakeCase(name));
         enumName = enumName.replaceFirst("^_", "");
         enumName = enumName.replaceFirst("_$", "");
 
@@ -512,7 +513,7 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toEnumName(CodegenProperty property) {
-        String enumName = underscore(toModelName(property.name)).toUpperCase();
+        String enumName = CaseFormatUtil.screamingSnakeCase(toModelName(property.name));
 
         // remove [] for array or map of enum
         enumName = enumName.replace("[]", "");
@@ -0,0 +1,52 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.io.AbstractTemplateLoader;
+import com.github.jknack.handlebars.io.StringTemplateSource;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import com.github.jknack.handlebars.io.TemplateSource;
+import io.swagger.codegen.v3.generators.util.TemplateBundle;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+
+/**
+ * Loads the embedded templates of a generator from its {@link TemplateBundle} instead of the classpath, and the other
+ * templates (e.g. common ones) from the given loader.
+ */
+public class BundleTemplateLoader extends AbstractTemplateLoader {
+
+    private final TemplateBundle bundle;
+    private final String folder;
+    private final TemplateLoader loader;
+
+    /**
+     * @param bundle bundle of the embedded template folder
+     * @param folder embedded template folder, e.g. handlebars/Java
+     * @param loader loader of the templates which are not in the bundle
+     */
+    public BundleTemplateLoader(TemplateBundle bundle, String folder, TemplateLoader loader) {
+        this.bundle = bundle;
+        this.folder = folder.replace('\\', '/');
+        this.loader = loader;
+    }
+
+    @Override
+    public TemplateSource sourceAt(String location) throws IOException {
+        String path = StringUtils.removeStart(location.replace('\\', '/'), "/");
+        path = StringUtils.removeStart(path, folder + '/');
+        if (!path.endsWith(TemplateBundle.TEMPLATE_EXTENSION)) {
+            path += TemplateBundle.TEMPLATE_EXTENSION;
+        }
+        // library templates are given by their path in the folder
+        final String template = path.contains("..") ? null : bundle.getTemplate(path);
+        if (template != null) {
+            return new StringTemplateSource(folder + '/' + path, template);
+        }
+        return loader.sourceAt(location);
+    }
+
+    @Override
+    public String resolve(String location) {
+        return loader.resolve(location);
+    }
+}
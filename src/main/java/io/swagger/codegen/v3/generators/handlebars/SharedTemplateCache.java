@@ -0,0 +1,53 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Parser;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.TemplateCache;
+import com.github.jknack.handlebars.io.TemplateSource;
+import io.swagger.codegen.v3.generators.util.CompiledTemplateCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Handlebars template cache backed by a {@link CompiledTemplateCache}, so that the templates and partials compiled
+ * by a generation are reused by the next ones.
+ *
+ * Compiled templates keep the helpers and the template loader of the Handlebars instance which compiled them: the
+ * engine key must identify both, e.g. from the generator class and its template folders.
+ */
+public class SharedTemplateCache implements TemplateCache {
+
+    private final String engine;
+    private final CompiledTemplateCache cache;
+
+    public SharedTemplateCache(String engine) {
+        this(engine, CompiledTemplateCache.getShared());
+    }
+
+    public SharedTemplateCache(String engine, CompiledTemplateCache cache) {
+        this.engine = engine;
+        this.cache = cache;
+    }
+
+    @Override
+    public Template get(TemplateSource source, Parser parser) throws IOException {
+        return cache.get(engine, source.filename(), source.content(StandardCharsets.UTF_8), content -> parser.parse(source));
+    }
+
+    @Override
+    public void evict(TemplateSource source) {
+        cache.evict(engine, source.filename());
+    }
+
+    @Override
+    public void clear() {
+        cache.evict(engine);
+    }
+
+    @Override
+    public TemplateCache setReload(boolean reload) {
+        // templates are keyed by content, changes are always reloaded
+        return this;
+    }
+}
@@ -39,7 +39,7 @@ public class HtmlSchemaHandler extends SchemaHandler {
         }
         for (CodegenProperty codegenProperty : codegenProperties) {
             if (codegenProperty.getIsListContainer()) {
-                Schema schemaProperty = OpenAPIUtil.getPropertyFromAllOfSchema(codegenProperty.baseName, composedSchema.getAllOf(), this.codegenConfig.getOpenAPI());
+                Schema schemaProperty = OpenAPIUtil.getPropertyFromAllOfSchema(codegenProperty.baseName, composedSchema.getAllOf(), this.codegenConfig.getRefIndex());
                 if (schemaProperty == null || !(schemaProperty instanceof ArraySchema)) {
                     continue;
                 }
@@ -91,8 +91,7 @@ public class HtmlSchemaHandler extends SchemaHandler {
         final List<String> modelNames = new ArrayList<>();
         for (Schema interfaceSchema : schemas) {
             if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
-                modelNames.add(codegenConfig.toModelName(schemaName));
+                modelNames.add(this.getInterfaceModelName(interfaceSchema.get$ref()));
             }
         }
         composedModel.vendorExtensions.put("x-model-names", modelNames);
@@ -152,6 +152,8 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     @Override
     public void processOpts() {
         super.processOpts();
+        // templates render modelJson and jsonSchema
+        setSkipSchemaJson(false);
         if (StringUtils.isBlank(templateDir)) {
             embeddedTemplateDir = templateDir = getTemplateDir();
         }
@@ -19,6 +19,7 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.HashMap;
@@ -203,6 +204,12 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig {
         property.unescapedDescription = toHtml(property.unescapedDescription);
     }
 
+    @Override
+    protected List<String> getExampleMediaTypes(ApiResponse response) {
+        // the index template renders the examples unescaped in the page
+        return getJsonExampleMediaTypes(response);
+    }
+
     @Override
     public ISchemaHandler getSchemaHandler() {
         return new HtmlSchemaHandler(this);
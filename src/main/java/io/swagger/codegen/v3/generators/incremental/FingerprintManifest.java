@@ -0,0 +1,71 @@
+package io.swagger.codegen.v3.generators.incremental;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fingerprints of the inputs of the generated files, by file path relative to the output folder, persisted as JSON
+ * between generations.
+ */
+public class FingerprintManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FingerprintManifest.class);
+
+    private final Map<String, String> fingerprints;
+
+    public FingerprintManifest() {
+        this(new TreeMap<>());
+    }
+
+    private FingerprintManifest(Map<String, String> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * @param file manifest file
+     * @return the manifest read from the file, an empty one if the file doesn't exist or can't be read
+     */
+    public static FingerprintManifest read(File file) {
+        if (!file.isFile()) {
+            return new FingerprintManifest();
+        }
+        try {
+            final Map<String, String> fingerprints = Json.mapper().readValue(file, new TypeReference<TreeMap<String, String>>() {});
+            return new FingerprintManifest(fingerprints == null ? new TreeMap<>() : fingerprints);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read fingerprint manifest {}, all files will be generated: {}", file, e.getMessage());
+            return new FingerprintManifest();
+        }
+    }
+
+    /**
+     * @param file file to write the manifest to
+     * @throws IOException if the file can't be written
+     */
+    public void write(File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        Json.pretty().writeValue(file, fingerprints);
+    }
+
+    public String get(String path) {
+        return fingerprints.get(path);
+    }
+
+    public void put(String path, String fingerprint) {
+        fingerprints.put(path, fingerprint);
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+}
@@ -0,0 +1,336 @@
+package io.swagger.codegen.v3.generators.incremental;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Incremental generation state of a codegen config: files whose inputs have the same fingerprint as in the manifest
+ * of the previous generation are not rendered again.
+ *
+ * The fingerprint of a model file covers the schema and its dependencies, the fingerprint of an api file covers
+ * the operations of its group (as grouped by {@code addOperationToGroup}) and their dependencies. Both also cover the
+ * generator options, the templates and the global parts of the document. Supporting files are always generated.
+ */
+public class IncrementalGeneration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalGeneration.class);
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "FINGERPRINTS";
+
+    // additional properties which change on every generation without changing the generated content
+    private static final Set<String> VOLATILE_PROPERTIES = new HashSet<>(Arrays.asList("generatedDate", "generatedYear"));
+    private static final Pattern PARTIAL_PATTERN = Pattern.compile("\\{\\{>\\s*([^\\s}]+)\\s*}}");
+    private static final String TEMPLATE_EXTENSION = ".mustache";
+
+    private final DefaultCodegenConfig config;
+    private final OpenAPI openAPI;
+    private final Path outputPath;
+    private final File manifestFile;
+    private final FingerprintManifest previous;
+    private final SpecFingerprints specFingerprints;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<CodegenOperation, String> operationFingerprints = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile String generationFingerprint;
+    private volatile boolean modelsRegistered;
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    public IncrementalGeneration(DefaultCodegenConfig config, OpenAPI openAPI) {
+        this.config = config;
+        this.openAPI = openAPI;
+        this.outputPath = new File(config.outputFolder()).getAbsoluteFile().toPath().normalize();
+        this.manifestFile = outputPath.resolve(MANIFEST_FILE).toFile();
+        this.previous = FingerprintManifest.read(manifestFile);
+        this.specFingerprints = new SpecFingerprints(openAPI);
+    }
+
+    /**
+     * Record the source of an operation converted by {@code fromOperation}.
+     *
+     * @param codegenOperation converted operation
+     * @param path path of the operation
+     * @param httpMethod http method of the operation
+     */
+    public void registerOperation(CodegenOperation codegenOperation, String path, String httpMethod) {
+        operationFingerprints.put(codegenOperation, specFingerprints.getOperationFingerprint(path, httpMethod));
+    }
+
+    /**
+     * Compute the fingerprint of the api, api test and api doc files of an operation group, once its operations
+     * are post processed. Groups with operations which were not registered are always generated.
+     *
+     * @param operations operations of the group
+     */
+    public void registerApiGroup(List<CodegenOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            return;
+        }
+        final String group = operations.get(0).baseName;
+        final StringBuilder builder = new StringBuilder(getGenerationFingerprint()).append('\n').append(group);
+        for (CodegenOperation operation : operations) {
+            final String fingerprint = operationFingerprints.get(operation);
+            if (fingerprint == null || !StringUtils.equals(group, operation.baseName)) {
+                return;
+            }
+            builder.append('\n').append(fingerprint);
+        }
+        final String fingerprint = SpecFingerprints.digest(builder.toString());
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            register(config.apiFilename(templateName, group), fingerprint);
+        }
+        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+            register(config.apiTestFilename(templateName, group), fingerprint);
+        }
+        for (String templateName : config.apiDocTemplateFiles().keySet()) {
+            register(config.apiDocFilename(templateName, group), fingerprint);
+        }
+    }
+
+    /**
+     * @param filename generated file
+     * @return true if the file exists and its inputs did not change since the previous generation
+     */
+    public boolean isUnchanged(String filename) {
+        registerModels();
+        final String key = key(filename);
+        final String fingerprint = fingerprints.get(key);
+        if (fingerprint == null || !fingerprint.equals(previous.get(key)) || !new File(filename).exists()) {
+            return false;
+        }
+        skipped.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Write the fingerprints of this generation, to be compared with by the next one.
+     */
+    public void writeManifest() {
+        final FingerprintManifest manifest = new FingerprintManifest();
+        for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+            manifest.put(entry.getKey(), entry.getValue());
+        }
+        try {
+            manifest.write(manifestFile);
+            LOGGER.info("Incremental generation: {} unchanged files skipped, {} fingerprints written to {}", skipped.get(), manifest.size(), manifestFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write fingerprint manifest {}: {}", manifestFile, e.getMessage());
+        }
+    }
+
+    private void registerModels() {
+        if (modelsRegistered) {
+            return;
+        }
+        synchronized (this) {
+            if (modelsRegistered) {
+                return;
+            }
+            final Map<String, Schema> schemas = openAPI.getComponents() == null ? null : openAPI.getComponents().getSchemas();
+            if (schemas != null) {
+                final String generation = getGenerationFingerprint();
+                for (String name : schemas.keySet()) {
+                    final String fingerprint = SpecFingerprints.digest(generation + '\n' + specFingerprints.getSchemaFingerprint(name));
+                    for (Map.Entry<String, String> template : config.modelTemplateFiles().entrySet()) {
+                        register(config.modelFileFolder() + File.separator + config.toModelFilename(name) + template.getValue(), fingerprint);
+                    }
+                    for (Map.Entry<String, String> template : config.modelTestTemplateFiles().entrySet()) {
+                        register(config.modelTestFileFolder() + File.separator + config.toModelTestFilename(name) + template.getValue(), fingerprint);
+                    }
+                    for (Map.Entry<String, String> template : config.modelDocTemplateFiles().entrySet()) {
+                        register(config.modelDocFileFolder() + File.separator + config.toModelDocFilename(name) + template.getValue(), fingerprint);
+                    }
+                }
+            }
+            modelsRegistered = true;
+        }
+    }
+
+    private void register(String filename, String fingerprint) {
+        fingerprints.put(key(filename), fingerprint);
+    }
+
+    private String key(String filename) {
+        final Path path = new File(filename).getAbsoluteFile().toPath().normalize();
+        return outputPath.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Computed on first use, once the generator options are all set.
+     */
+    private String getGenerationFingerprint() {
+        if (generationFingerprint == null) {
+            synchronized (this) {
+                if (generationFingerprint == null) {
+                    generationFingerprint = computeGenerationFingerprint();
+                }
+            }
+        }
+        return generationFingerprint;
+    }
+
+    private String computeGenerationFingerprint() {
+        final Map<String, Object> properties = new TreeMap<>(config.additionalProperties());
+        properties.keySet().removeAll(VOLATILE_PROPERTIES);
+
+        final Map<String, Object> generation = new TreeMap<>();
+        generation.put("generator", config.getClass().getName());
+        generation.put("version", DefaultCodegenConfig.class.getPackage().getImplementationVersion());
+        generation.put("library", config.getLibrary());
+        generation.put("additionalProperties", properties);
+        generation.put("typeMapping", config.typeMapping());
+        generation.put("importMapping", config.importMapping());
+        generation.put("instantiationTypes", config.instantiationTypes());
+        generation.put("languageSpecificPrimitives", config.languageSpecificPrimitives());
+        generation.put("reservedWordsMappings", config.reservedWordsMappings());
+        generation.put("templates", getTemplatesFingerprint());
+        generation.put("document", specFingerprints.getDocumentFingerprint());
+        return SpecFingerprints.digest(describe(generation));
+    }
+
+    private String getTemplatesFingerprint() {
+        final Set<String> templateNames = new TreeSet<>();
+        templateNames.addAll(config.modelTemplateFiles().keySet());
+        templateNames.addAll(config.modelTestTemplateFiles().keySet());
+        templateNames.addAll(config.modelDocTemplateFiles().keySet());
+        templateNames.addAll(config.apiTemplateFiles().keySet());
+        templateNames.addAll(config.apiTestTemplateFiles().keySet());
+        templateNames.addAll(config.apiDocTemplateFiles().keySet());
+
+        final StringBuilder builder = new StringBuilder();
+        final Set<String> visited = new HashSet<>();
+        for (String templateName : templateNames) {
+            appendTemplate(templateName, visited, builder);
+        }
+        return SpecFingerprints.digest(builder.toString());
+    }
+
+    private void appendTemplate(String templateName, Set<String> visited, StringBuilder builder) {
+        if (!visited.add(templateName)) {
+            return;
+        }
+        final String template = readTemplate(templateName);
+        builder.append(templateName).append('=').append(template == null ? "" : SpecFingerprints.digest(template)).append('\n');
+        if (template == null) {
+            return;
+        }
+        final Matcher matcher = PARTIAL_PATTERN.matcher(template);
+        while (matcher.find()) {
+            final String partial = matcher.group(1);
+            appendTemplate(partial.contains(".") ? partial : partial + TEMPLATE_EXTENSION, visited, builder);
+        }
+    }
+
+    private String readTemplate(String templateName) {
+        final String library = config.getLibrary();
+        final String templateDir = config.templateDir();
+        final String embeddedTemplateDir = config.embeddedTemplateDir();
+        try {
+            if (StringUtils.isNotBlank(templateDir)) {
+                if (StringUtils.isNotBlank(library)) {
+                    final File file = new File(templateDir, "libraries" + File.separator + library + File.separator + templateName);
+                    if (file.isFile()) {
+                        return FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+                    }
+                }
+                final File file = new File(templateDir, templateName);
+                if (file.isFile()) {
+                    return FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+                }
+            }
+            if (StringUtils.isNotBlank(embeddedTemplateDir)) {
+                final String embedded = embeddedTemplateDir.replace('\\', '/');
+                if (StringUtils.isNotBlank(library)) {
+                    final String template = readResource(embedded + "/libraries/" + library + "/" + templateName);
+                    if (template != null) {
+                        return template;
+                    }
+                }
+                final String template = readResource(embedded + "/" + templateName);
+                if (template != null) {
+                    return template;
+                }
+                final int engineDir = embedded.lastIndexOf('/');
+                if (engineDir > 0) {
+                    return readResource(embedded.substring(0, engineDir) + "/" + config.getCommonTemplateDir() + "/" + templateName);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not read template {}: {}", templateName, e.getMessage());
+        }
+        return null;
+    }
+
+    private String readResource(String name) throws IOException {
+        try (InputStream stream = config.getClass().getClassLoader().getResourceAsStream(name)) {
+            return stream == null ? null : IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Stable description of option values, other objects (e.g. template lambdas) are described by their class.
+     */
+    private static String describe(Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Map) {
+            final StringBuilder builder = new StringBuilder("{");
+            final Map<String, String> entries = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.put(String.valueOf(entry.getKey()), describe(entry.getValue()));
+            }
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                builder.append(entry.getKey()).append('=').append(entry.getValue()).append(',');
+            }
+            return builder.append('}').toString();
+        }
+        if (value instanceof Collection) {
+            final StringBuilder builder = new StringBuilder("[");
+            final Collection<String> items = value instanceof Set ? new TreeSet<>() : new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                items.add(describe(item));
+            }
+            for (String item : items) {
+                builder.append(item).append(',');
+            }
+            return builder.append(']').toString();
+        }
+        if (value.getClass().isArray()) {
+            final StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < Array.getLength(value); i++) {
+                builder.append(describe(Array.get(value, i))).append(',');
+            }
+            return builder.append(']').toString();
+        }
+        return value.getClass().getName();
+    }
+}
@@ -0,0 +1,193 @@
+package io.swagger.codegen.v3.generators.incremental;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content fingerprints of the schemas and operations of an OpenAPI document.
+ *
+ * A fingerprint covers the serialized node and all the components it transitively refers to, so that a change in a
+ * referenced schema, parameter, response or request body changes the fingerprint of all its dependents. The
+ * fingerprint of a schema also covers the schemas extending it with allOf, since parents list their children.
+ */
+public class SpecFingerprints {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+    private static final String SCHEMAS_PREFIX = COMPONENTS_PREFIX + "schemas/";
+
+    private final JsonNode paths;
+    private final JsonNode components;
+    private final String documentFingerprint;
+    private final Map<String, List<String>> children = new HashMap<>();
+    private final Map<String, RefEntry> entries = new ConcurrentHashMap<>();
+
+    public SpecFingerprints(OpenAPI openAPI) {
+        final JsonNode root = Json.mapper().convertValue(openAPI, JsonNode.class);
+        this.paths = root.path("paths");
+        this.components = root.path("components");
+
+        // everything but the paths and the components, which are fingerprinted on their own
+        final StringBuilder document = new StringBuilder();
+        if (root instanceof ObjectNode) {
+            final ObjectNode global = ((ObjectNode) root).deepCopy();
+            global.remove("paths");
+            global.remove("components");
+            document.append(global);
+        }
+        document.append(components.path("securitySchemes"));
+        this.documentFingerprint = digest(document.toString());
+
+        final Iterator<Map.Entry<String, JsonNode>> schemas = components.path("schemas").fields();
+        while (schemas.hasNext()) {
+            final Map.Entry<String, JsonNode> schema = schemas.next();
+            for (JsonNode allOf : schema.getValue().path("allOf")) {
+                final JsonNode ref = allOf.get("$ref");
+                if (ref != null && ref.isTextual()) {
+                    children.computeIfAbsent(ref.asText(), r -> new ArrayList<>()).add(SCHEMAS_PREFIX + schema.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return fingerprint of the document information, servers, security and tags, which are used by all files
+     */
+    public String getDocumentFingerprint() {
+        return documentFingerprint;
+    }
+
+    /**
+     * @param name name of the schema in the components
+     * @return fingerprint of the schema, its dependencies and the schemas extending it
+     */
+    public String getSchemaFingerprint(String name) {
+        final String ref = SCHEMAS_PREFIX + name;
+        final Collection<String> seeds = new ArrayList<>();
+        seeds.add(ref);
+        seeds.addAll(children.getOrDefault(ref, Collections.emptyList()));
+        return closureFingerprint(seeds);
+    }
+
+    /**
+     * @param path path of the operation
+     * @param httpMethod http method of the operation
+     * @return fingerprint of the path item (including path parameters) and all its dependencies
+     */
+    public String getOperationFingerprint(String path, String httpMethod) {
+        final JsonNode pathItem = paths.path(path);
+        final Collection<String> seeds = new TreeSet<>();
+        collectRefs(pathItem, seeds);
+        return digest(httpMethod.toLowerCase(Locale.ROOT) + ' ' + path + ' ' + digest(pathItem.toString()) + ' '
+                + closureFingerprint(seeds));
+    }
+
+    private String closureFingerprint(Collection<String> seeds) {
+        final Set<String> visited = new TreeSet<>();
+        final Deque<String> queue = new ArrayDeque<>(seeds);
+        while (!queue.isEmpty()) {
+            final String ref = queue.pop();
+            if (visited.add(ref)) {
+                queue.addAll(getEntry(ref).refs);
+            }
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (String ref : visited) {
+            builder.append(ref).append('=').append(getEntry(ref).digest).append('\n');
+        }
+        return digest(builder.toString());
+    }
+
+    private RefEntry getEntry(String ref) {
+        return entries.computeIfAbsent(ref, r -> {
+            final JsonNode node = resolve(r);
+            final Set<String> refs = new TreeSet<>();
+            collectRefs(node, refs);
+            return new RefEntry(node.isMissingNode() ? "missing" : digest(node.toString()), refs);
+        });
+    }
+
+    private JsonNode resolve(String ref) {
+        if (!ref.startsWith(COMPONENTS_PREFIX)) {
+            // external refs are fingerprinted by their value only
+            return MissingNode.getInstance();
+        }
+        final String[] segments = ref.substring(COMPONENTS_PREFIX.length()).split("/", 2);
+        if (segments.length < 2) {
+            return MissingNode.getInstance();
+        }
+        return components.path(segments[0]).path(segments[1].replace("~1", "/").replace("~0", "~"));
+    }
+
+    private static void collectRefs(JsonNode node, Collection<String> refs) {
+        if (node.isArray()) {
+            for (JsonNode item : node) {
+                collectRefs(item, refs);
+            }
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            if ("$ref".equals(field.getKey()) && value.isTextual()) {
+                refs.add(value.asText());
+            } else if ("discriminator".equals(field.getKey())) {
+                for (JsonNode mapping : value.path("mapping")) {
+                    final String target = mapping.asText();
+                    refs.add(target.indexOf('/') < 0 ? SCHEMAS_PREFIX + target : target);
+                }
+            } else {
+                collectRefs(value, refs);
+            }
+        }
+    }
+
+    static String digest(String text) {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final byte[] bytes = messageDigest.digest(text.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static class RefEntry {
+
+        private final String digest;
+        private final Set<String> refs;
+
+        RefEntry(String digest, Set<String> refs) {
+            this.digest = digest;
+            this.refs = refs;
+        }
+    }
+}
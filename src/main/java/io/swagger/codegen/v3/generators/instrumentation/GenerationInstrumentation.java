@@ -0,0 +1,43 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+/**
+ * Measures the phases of a generation. Spans can be started concurrently from several threads and nested (a span
+ * measures everything done until it is closed, nested spans included).
+ *
+ * <pre>
+ * try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.FROM_MODEL, name)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public interface GenerationInstrumentation {
+
+    GenerationInstrumentation NONE = new GenerationInstrumentation() {
+        @Override
+        public Span start(GenerationPhase phase, String name) {
+            return NO_SPAN;
+        }
+    };
+
+    Span NO_SPAN = () -> {
+    };
+
+    /**
+     * @param phase measured phase
+     * @param name model, operation or template the phase is run for, null for whole phases
+     * @return span to close when the phase ends
+     */
+    Span start(GenerationPhase phase, String name);
+
+    /**
+     * Called once the generation is over, to report the measures.
+     */
+    default void finish() {
+    }
+
+    interface Span extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,20 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+/**
+ * Phases of a generation measured by a {@link GenerationInstrumentation}. DefaultCodegenConfig measures all of them
+ * but {@link #POST_PROCESS_OPERATIONS} and {@link #WRITE_FILE}, which are left to the generator driving the
+ * generation.
+ *
+ * The BASE_ phases only measure the DefaultCodegenConfig implementation of the hook: the work of the generators
+ * overriding it, before or after calling super (e.g. the enum references of the C# generators), is not included.
+ */
+public enum GenerationPhase {
+    BASE_PREPROCESS_OPENAPI,
+    FROM_MODEL,
+    BASE_POST_PROCESS_ALL_MODELS,
+    FROM_OPERATION,
+    POST_PROCESS_OPERATIONS,
+    RENDER_TEMPLATE,
+    WRITE_FILE,
+    PROCESS_OPENAPI
+}
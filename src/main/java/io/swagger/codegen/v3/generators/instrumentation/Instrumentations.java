@@ -0,0 +1,45 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+
+public final class Instrumentations {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Instrumentations.class);
+
+    // only available when built and run on JDK 11 and later
+    private static final String JFR_INSTRUMENTATION = "io.swagger.codegen.v3.generators.instrumentation.JfrInstrumentation";
+
+    private Instrumentations() {
+    }
+
+    /**
+     * @param reportFile path of the JSON report, null or empty to only record the measures
+     * @param jfr true to also emit JFR events
+     * @return instrumentation recording the measures of a generation
+     */
+    public static GenerationInstrumentation create(String reportFile, boolean jfr) {
+        final GenerationInstrumentation instrumentation =
+                new RecordingInstrumentation(StringUtils.isBlank(reportFile) ? null : new File(reportFile));
+        return jfr ? withJfr(instrumentation) : instrumentation;
+    }
+
+    /**
+     * @param instrumentation instrumentation to delegate to
+     * @return instrumentation also emitting JFR events, the given one if JFR events are not available
+     */
+    public static GenerationInstrumentation withJfr(GenerationInstrumentation instrumentation) {
+        try {
+            final Class<?> jfrInstrumentation = Class.forName(JFR_INSTRUMENTATION);
+            return (GenerationInstrumentation) jfrInstrumentation
+                    .getConstructor(GenerationInstrumentation.class)
+                    .newInstance(instrumentation);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.warn("JFR events are not available (built with -Pjfr on JDK 11 or later is required): {}", e.toString());
+            return instrumentation;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Template engine measuring each rendering as a {@link GenerationPhase#RENDER_TEMPLATE} span named after the
+ * template file.
+ */
+public class InstrumentedTemplateEngine implements TemplateEngine {
+
+    private final TemplateEngine templateEngine;
+    private final GenerationInstrumentation instrumentation;
+
+    public InstrumentedTemplateEngine(TemplateEngine templateEngine, GenerationInstrumentation instrumentation) {
+        this.templateEngine = templateEngine;
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        try (GenerationInstrumentation.Span span = instrumentation.start(GenerationPhase.RENDER_TEMPLATE, templateFile)) {
+            return templateEngine.getRendered(templateFile, templateData);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return templateEngine.getName();
+    }
+
+    public TemplateEngine getTemplateEngine() {
+        return templateEngine;
+    }
+}
@@ -0,0 +1,172 @@
+package io.swagger.codegen.v3.generators.instrumentation;
+
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records, per phase and per model/operation/template of each phase, the number of calls, the wall time and the
+ * bytes allocated by the calling thread (when the JVM supports allocation measurement). The measures can be written
+ * as a JSON report, on {@link #finish()} when a report file is given.
+ */
+public class RecordingInstrumentation implements GenerationInstrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordingInstrumentation.class);
+
+    private final File reportFile;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final Map<GenerationPhase, Measures> phases = new EnumMap<>(GenerationPhase.class);
+    private final Map<GenerationPhase, ConcurrentMap<String, Measures>> items = new EnumMap<>(GenerationPhase.class);
+
+    public RecordingInstrumentation() {
+        this(null);
+    }
+
+    /**
+     * @param reportFile file the JSON report is written to on {@link #finish()}, null to not write it
+     */
+    public RecordingInstrumentation(File reportFile) {
+        this.reportFile = reportFile;
+        this.threadMXBean = getAllocationMXBean();
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            phases.put(phase, new Measures());
+            items.put(phase, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationMXBean() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean;
+            }
+        }
+        LOGGER.debug("Thread allocated memory is not supported, allocations won't be recorded");
+        return null;
+    }
+
+    @Override
+    public Span start(GenerationPhase phase, String name) {
+        final long startNanos = System.nanoTime();
+        final long startBytes = allocatedBytes();
+        return () -> {
+            final long nanos = System.nanoTime() - startNanos;
+            final long bytes = startBytes < 0 ? 0 : allocatedBytes() - startBytes;
+            phases.get(phase).add(nanos, bytes);
+            if (name != null) {
+                items.get(phase).computeIfAbsent(name, n -> new Measures()).add(nanos, bytes);
+            }
+        };
+    }
+
+    private long allocatedBytes() {
+        if (threadMXBean == null) {
+            return -1;
+        }
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @param phase measured phase
+     * @return number of spans of the phase
+     */
+    public long getCount(GenerationPhase phase) {
+        return phases.get(phase).count.sum();
+    }
+
+    /**
+     * @param phase measured phase
+     * @param name model, operation or template name
+     * @return number of spans of the phase for the given name
+     */
+    public long getCount(GenerationPhase phase, String name) {
+        final Measures measures = items.get(phase).get(name);
+        return measures == null ? 0 : measures.count.sum();
+    }
+
+    /**
+     * @return the measures, by phase, as written in the JSON report
+     */
+    public Map<String, Object> getReport() {
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("allocationsRecorded", threadMXBean != null);
+        final Map<String, Object> phasesReport = new LinkedHashMap<>();
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            final Measures measures = phases.get(phase);
+            if (measures.count.sum() == 0) {
+                continue;
+            }
+            final Map<String, Object> phaseReport = measures.toReport();
+            final Map<String, Object> itemsReport = new TreeMap<>();
+            for (Map.Entry<String, Measures> item : items.get(phase).entrySet()) {
+                itemsReport.put(item.getKey(), item.getValue().toReport());
+            }
+            if (!itemsReport.isEmpty()) {
+                phaseReport.put("items", itemsReport);
+            }
+            phasesReport.put(phase.name(), phaseReport);
+        }
+        report.put("phases", phasesReport);
+        return report;
+    }
+
+    /**
+     * @param file file to write the JSON report to
+     * @throws IOException if the file can't be written
+     */
+    public void writeReport(File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        Json.pretty().writeValue(file, getReport());
+    }
+
+    @Override
+    public void finish() {
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            writeReport(reportFile);
+            LOGGER.info("Generation instrumentation report written to {}", reportFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write generation instrumentation report to {}: {}", reportFile, e.getMessage());
+        }
+    }
+
+    private static class Measures {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        void add(long nanos, long bytes) {
+            this.count.increment();
+            this.nanos.add(nanos);
+            this.bytes.add(bytes);
+        }
+
+        Map<String, Object> toReport() {
+            final Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", count.sum());
+            report.put("wallTimeMillis", TimeUnit.NANOSECONDS.toMicros(nanos.sum()) / 1000d);
+            report.put("allocatedBytes", bytes.sum());
+            return report;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -29,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -36,6 +39,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static io.swagger.codegen.v3.CodegenConstants.HAS_ENUMS_EXT_NAME;
@@ -81,43 +85,52 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
     protected boolean supportJava6= false;
+    protected NameSanitizer varNameSanitizer = new NameSanitizer(nameSanitizer)
+            .addReplacement("@", "_at_")
+            .addAllowedCharacter('$');
+
+    private static final Set<String> RESERVED_WORDS = lowerCaseSet(
+            // used as internal variables, can collide with parameter names
+            "localVarPath", "localVarQueryParams", "localVarCollectionQueryParams",
+            "localVarHeaderParams", "localVarFormParams", "localVarPostBody",
+            "localVarAccepts", "localVarAccept", "localVarContentTypes",
+            "localVarContentType", "localVarAuthNames", "localReturnType",
+            "ApiClient", "ApiException", "ApiResponse", "Configuration", "StringUtil",
+
+            // language reserved words
+            "abstract", "continue", "for", "new", "switch", "assert",
+            "default", "if", "package", "synchronized", "boolean", "do", "goto", "private",
+            "this", "break", "double", "implements", "protected", "throw", "byte", "else",
+            "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
+            "catch", "extends", "int", "short", "try", "char", "final", "interface", "static",
+            "void", "class", "finally", "long", "strictfp", "volatile", "const", "float",
+            "native", "super", "while", "null");
+
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "String",
+                    "boolean",
+                    "Boolean",
+                    "Double",
+                    "Integer",
+                    "Long",
+                    "Float",
+                    "Object",
+                    "byte[]")));
 
     public AbstractJavaCodegen() {
         super();
         hideGenerationTimestamp = false;
         supportsInheritance = true;
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // used as internal variables, can collide with parameter names
-                        "localVarPath", "localVarQueryParams", "localVarCollectionQueryParams",
-                        "localVarHeaderParams", "localVarFormParams", "localVarPostBody",
-                        "localVarAccepts", "localVarAccept", "localVarContentTypes",
-                        "localVarContentType", "localVarAuthNames", "localReturnType",
-                        "ApiClient", "ApiException", "ApiResponse", "Configuration", "StringUtil",
-
-                        // language reserved words
-                        "abstract", "continue", "for", "new", "switch", "assert",
-                        "default", "if", "package", "synchronized", "boolean", "do", "goto", "private",
-                        "this", "break", "double", "implements", "protected", "throw", "byte", "else",
-                        "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
-                        "catch", "extends", "int", "short", "try", "char", "final", "interface", "static",
-                        "void", "class", "finally", "long", "strictfp", "volatile", "const", "float",
-                        "native", "super", "while", "null")
-        );
-
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "String",
-                        "boolean",
-                        "Boolean",
-                        "Double",
-                        "Integer",
-                        "Long",
-                        "Float",
-                        "Object",
-                        "byte[]")
-        );
+        // remove " to avoid code injection
+        quotationMarkEscaper = new TextEscaper().removeCharacter('"');
+        unsafeCharactersEscaper = new TextEscaper()
+                .addSequenceReplacement("*/", "*_/")
+                .addSequenceReplacement("/*", "/_*");
+
+        setReservedWords(RESERVED_WORDS);
+        languageSpecificPrimitives = new HashSet<String>(LANGUAGE_SPECIFIC_PRIMITIVES);
         instantiationTypes.put("array", "ArrayList");
         instantiationTypes.put("map", "HashMap");
         typeMapping.put("date", "Date");
@@ -1136,25 +1149,8 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         if ("$".equals(name)) {
             return "value";
         }
-        name = name.replaceAll("\\[\\]", StringUtils.EMPTY);
-        name = name.replaceAll("\\[", "_")
-                .replaceAll("\\]", "")
-                .replaceAll("\\(", "_")
-                .replaceAll("\\)", StringUtils.EMPTY)
-                .replaceAll("\\.", "_")
-                .replaceAll("@", "_at_")
-                .replaceAll("-", "_")
-                .replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("[\\W&&[^$]]", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll(StringUtils.EMPTY);
-        }
-        else {
-            name = name.replaceAll("[\\W&&[^$]]", StringUtils.EMPTY);
-        }
-        return name;
+        // same as sanitizeName, but input@name => input_at_name and '$' is kept
+        return varNameSanitizer.sanitize(name, allowUnicodeIdentifiers);
     }
 
     private static CodegenModel reconcileInlineEnums(CodegenModel codegenModel, CodegenModel parentCodegenModel) {
@@ -1360,17 +1356,6 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         this.java8Mode = enabled;
     }
 
-    @Override
-    public String escapeQuotationMark(String input) {
-        // remove " to avoid code injection
-        return input.replace("\"", "");
-    }
-
-    @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
-    }
-
     /*
      * Derive invoker package name based on the input
      * e.g. foo.bar.model => foo.bar
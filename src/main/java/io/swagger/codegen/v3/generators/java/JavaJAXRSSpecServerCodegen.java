@@ -10,7 +10,6 @@ import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
@@ -174,7 +173,7 @@ public class JavaJAXRSSpecServerCodegen extends AbstractJavaJAXRSServerCodegen {
         // copy input swagger to output folder
         try {
             String swaggerJson = Json.pretty(openAPI);
-            FileUtils.writeStringToFile(new File(outputFolder + File.separator + "swagger.json"), swaggerJson);
+            writeFile(new File(outputFolder + File.separator + "swagger.json"), swaggerJson);
         }
         catch (IOException e) {
             throw new RuntimeException(e.getMessage(), e.getCause());
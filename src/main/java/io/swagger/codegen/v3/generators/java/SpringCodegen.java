@@ -20,6 +20,7 @@ import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -701,6 +702,12 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         return toApiName(name) + "ControllerIntegrationTest";
     }
 
+    @Override
+    protected List<String> getExampleMediaTypes(ApiResponse response) {
+        // the api templates read the examples with the Jackson object mapper
+        return getJsonExampleMediaTypes(response);
+    }
+
     @Override
     public void setParameterExampleValue(CodegenParameter p) {
         String type = p.baseType;
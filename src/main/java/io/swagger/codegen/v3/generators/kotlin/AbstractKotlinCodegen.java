@@ -3,10 +3,12 @@ package io.swagger.codegen.v3.generators.kotlin;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +24,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig {
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractKotlinCodegen.class);
 
     private Set<String> instantiationLibraryFunction;
+    private NameSanitizer kotlinNameSanitizer;
 
     protected String artifactId;
     protected String artifactVersion = "1.0.0";
@@ -539,27 +542,40 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig {
     private String sanitizeKotlinSpecificNames(final String name) {
         String word = removeNonNameElementToCamelCase(name);
 
-        for (Map.Entry<String, String> specialCharacters : specialCharReplacements.entrySet()) {
-            // Underscore is the only special character we'll allow
-            if (!specialCharacters.getKey().equals("_")) {
-                word = word.replaceAll("\\Q" + specialCharacters.getKey() + "\\E", specialCharacters.getValue());
-            }
-        }
-
-        // Fallback, replace unknowns with underscore.
-        word = word.replaceAll("\\W+", "_");
-        if (word.matches("\\d.*")) {
+        // special characters are replaced by their names, fallback, replace unknowns with underscore.
+        word = getKotlinNameSanitizer().sanitize(word, false);
+        if (!word.isEmpty() && word.charAt(0) >= '0' && word.charAt(0) <= '9') {
             word = "_" + word;
         }
 
         // _, __, and ___ are reserved in Kotlin. Treat all names with only underscores consistently, regardless of count.
-        if (word.matches("^_*$")) {
-            word = word.replaceAll("\\Q_\\E", "Underscore");
+        if (StringUtils.containsOnly(word, '_')) {
+            word = StringUtils.repeat("Underscore", word.length());
         }
 
         return word;
     }
 
+    /**
+     * Sanitizer built from {@link #specialCharReplacements} on first use. Mappings are registered in the map iteration
+     * order, which keeps the result of replacing them one after the other.
+     *
+     * @return kotlin name sanitizer
+     */
+    private NameSanitizer getKotlinNameSanitizer() {
+        if (kotlinNameSanitizer == null) {
+            final NameSanitizer sanitizer = new NameSanitizer().setNonWordReplacement("_");
+            for (Map.Entry<String, String> specialCharacters : specialCharReplacements.entrySet()) {
+                // Underscore is the only special character we'll allow
+                if (!specialCharacters.getKey().equals("_")) {
+                    sanitizer.addReplacement(specialCharacters.getKey(), specialCharacters.getValue());
+                }
+            }
+            kotlinNameSanitizer = sanitizer;
+        }
+        return kotlinNameSanitizer;
+    }
+
     private String titleCase(final String input) {
         return input.substring(0, 1).toUpperCase() + input.substring(1);
     }
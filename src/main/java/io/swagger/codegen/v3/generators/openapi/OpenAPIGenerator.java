@@ -4,10 +4,10 @@ import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +31,10 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
         super();
         outputFolder = "generated-code/openapi";
 
+        // just return the original strings
+        quotationMarkEscaper = new TextEscaper();
+        unsafeCharactersEscaper = new TextEscaper();
+
         cliOptions.add(new CliOption(OUTPUT_NAME,
                 "output filename")
                 .defaultValue(getOutputFile()));
@@ -74,7 +78,7 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 
         try {
             String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), outputString);
+            writeFile(new File(outputFile), outputString);
             LOGGER.debug("wrote file to " + outputFile);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -106,12 +110,6 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
         this.outputFile = outputFile;
     }
 
-    @Override
-    public String escapeQuotationMark(String input) {
-        // just return the original string
-        return input;
-    }
-
     @Override
     public String getArgumentsLocation() {
         return null;
@@ -122,12 +120,6 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
         return "openapi";
     }
 
-    @Override
-    public String escapeUnsafeCharacters(String input) {
-        // just return the original string
-        return input;
-    }
-
     @Override
     protected void setTemplateEngine() {
         templateEngine = new HandlebarTemplateEngine(this);
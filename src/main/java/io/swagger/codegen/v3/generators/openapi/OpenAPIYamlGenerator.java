@@ -2,7 +2,6 @@ package io.swagger.codegen.v3.generators.openapi;
 
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +45,7 @@ public class OpenAPIYamlGenerator extends OpenAPIGenerator {
             }
 
             String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), outputString);
+            writeFile(new File(outputFile), outputString);
             LOGGER.debug("wrote file to " + outputFile);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
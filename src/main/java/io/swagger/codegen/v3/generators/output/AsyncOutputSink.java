@@ -0,0 +1,173 @@
+package io.swagger.codegen.v3.generators.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes the generated files to another sink from a few I/O threads, so that rendering does not wait for the writes.
+ *
+ * At most a given number of files are queued: writing a file blocks while the queue is full. The writes of a file
+ * always go to the same thread, so they are done in order. Write errors are collected and thrown by {@link #flush()}.
+ *
+ * The generator only sends to it the files written by the config itself and, when the output sink is not the file
+ * system, the rendered files: with the file system sink, the generator writes the rendered files in its own thread.
+ */
+public class AsyncOutputSink implements OutputSink {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private final OutputSink delegate;
+    private final ExecutorService[] writers;
+    private final Semaphore queue;
+    private final Map<File, Integer> pending = new ConcurrentHashMap<>();
+    private final Queue<Exception> errors = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param delegate sink the files are written to, must be safe for concurrent writes of different files
+     * @param threads number of I/O threads
+     * @param queueCapacity maximum number of files waiting to be written
+     */
+    public AsyncOutputSink(OutputSink delegate, int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("threads and queue capacity must be positive");
+        }
+        this.delegate = delegate;
+        this.queue = new Semaphore(queueCapacity);
+        this.writers = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            final String name = "swagger-codegen-writer-" + i;
+            writers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Queues the file, waiting for room in the queue if it is full.
+     *
+     * @return true, the file is written later
+     * @throws IOException if interrupted while waiting, or if the sink is shut down
+     */
+    @Override
+    public boolean write(File file, byte[] content) throws IOException {
+        try {
+            queue.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queuing " + file);
+        }
+        pending.merge(file, 1, Integer::sum);
+        try {
+            writers[Math.floorMod(file.hashCode(), writers.length)].execute(() -> {
+                try {
+                    delegate.write(file, content);
+                } catch (IOException | RuntimeException e) {
+                    errors.add(e);
+                } finally {
+                    done(file);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            done(file);
+            throw new IOException("Could not queue " + file + ", the writer is shut down", e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean exists(File file) {
+        return pending.containsKey(file) || delegate.exists(file);
+    }
+
+    @Override
+    public boolean isFileSystem() {
+        return delegate.isFileSystem();
+    }
+
+    /**
+     * Waits for the queued files to be written.
+     *
+     * @throws IOException the first write error since the last flush, with the others as suppressed exceptions
+     */
+    public void flush() throws IOException {
+        final List<Future<?>> markers = new ArrayList<>(writers.length);
+        for (ExecutorService writer : writers) {
+            if (!writer.isShutdown()) {
+                markers.add(writer.submit(() -> { }));
+            }
+        }
+        try {
+            for (Future<?> marker : markers) {
+                marker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the files to be written");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        IOException error = null;
+        Exception e;
+        while ((e = errors.poll()) != null) {
+            if (error == null) {
+                error = e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+            } else {
+                error.addSuppressed(e);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Waits for the queued files to be written and stops the I/O threads, without closing the delegate sink.
+     *
+     * @throws IOException the first write error, with the others as suppressed exceptions
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            for (ExecutorService writer : writers) {
+                writer.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Waits for the queued files to be written, stops the I/O threads and closes the delegate sink.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            shutdown();
+        } finally {
+            delegate.close();
+        }
+    }
+
+    public OutputSink getDelegate() {
+        return delegate;
+    }
+
+    private void done(File file) {
+        pending.computeIfPresent(file, (f, count) -> count == 1 ? null : count - 1);
+        queue.release();
+    }
+}
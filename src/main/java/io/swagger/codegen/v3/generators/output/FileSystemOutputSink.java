@@ -0,0 +1,42 @@
+package io.swagger.codegen.v3.generators.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the generated files to the output folder on disk.
+ */
+public class FileSystemOutputSink implements OutputSink {
+
+    @Override
+    public boolean write(File file, byte[] content) throws IOException {
+        final Path path = file.toPath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        // the whole content in one buffer, written with as few system calls as possible
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean exists(File file) {
+        return file.exists();
+    }
+
+    @Override
+    public boolean isFileSystem() {
+        return true;
+    }
+}
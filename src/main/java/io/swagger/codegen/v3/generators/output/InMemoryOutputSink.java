@@ -0,0 +1,61 @@
+package io.swagger.codegen.v3.generators.output;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the generated files in memory, by path relative to the output folder, e.g. for tests or to embed the
+ * generator. The generator still writes every file to disk: to a temporary scratch folder, deleted at the end of the
+ * generation, the output folder itself is not written to.
+ */
+public class InMemoryOutputSink implements OutputSink {
+
+    private final File outputFolder;
+    private final Map<String, byte[]> files = new LinkedHashMap<>();
+
+    /**
+     * @param outputFolder output folder the paths of the files are relative to
+     */
+    public InMemoryOutputSink(File outputFolder) {
+        this.outputFolder = outputFolder;
+    }
+
+    @Override
+    public synchronized boolean write(File file, byte[] content) {
+        files.put(OutputSinks.relativePath(outputFolder, file), content);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean exists(File file) {
+        return files.containsKey(OutputSinks.relativePath(outputFolder, file));
+    }
+
+    /**
+     * @return paths of the written files, relative to the output folder and separated by '/', in writing order
+     */
+    public synchronized List<String> getPaths() {
+        return new ArrayList<>(files.keySet());
+    }
+
+    /**
+     * @param path path relative to the output folder
+     * @return content of the file, null if it was not written
+     */
+    public synchronized byte[] getContent(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * @param path path relative to the output folder
+     * @return UTF-8 content of the file, null if it was not written
+     */
+    public String getContentAsString(String path) {
+        final byte[] content = getContent(path);
+        return content == null ? null : new String(content, StandardCharsets.UTF_8);
+    }
+}
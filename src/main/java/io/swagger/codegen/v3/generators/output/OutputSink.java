@@ -0,0 +1,44 @@
+package io.swagger.codegen.v3.generators.output;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Destination of the generated files: the output folder on disk, memory or an archive.
+ *
+ * Files are given by their path in the output folder, sinks not writing to disk use the path relative to the output
+ * folder. Sinks may be used by several threads.
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * @param file file to write, in the output folder
+     * @param content content of the file
+     * @return true if the file was written, false if it was skipped
+     * @throws IOException if the file can't be written
+     */
+    boolean write(File file, byte[] content) throws IOException;
+
+    /**
+     * @param file file in the output folder
+     * @return true if the file was already written
+     */
+    boolean exists(File file);
+
+    /**
+     * @return true if the files are written to the output folder on disk
+     */
+    default boolean isFileSystem() {
+        return false;
+    }
+
+    /**
+     * Finish writing the files, e.g. the end of an archive.
+     *
+     * @throws IOException if the files can't be written
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
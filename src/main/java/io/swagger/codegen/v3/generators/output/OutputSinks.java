@@ -0,0 +1,73 @@
+package io.swagger.codegen.v3.generators.output;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.jar.JarOutputStream;
+
+public final class OutputSinks {
+
+    public static final String FILE_SYSTEM = "filesystem";
+    public static final String MEMORY = "memory";
+
+    private OutputSinks() {
+    }
+
+    /**
+     * @param option an {@link OutputSink}, {@link #FILE_SYSTEM}, {@link #MEMORY} or the path of a .zip or .jar
+     * archive
+     * @param outputFolder output folder
+     * @param writeIfChanged true to only write the files whose content changed, for the file system
+     * @return sink of the generated files
+     */
+    public static OutputSink create(Object option, String outputFolder, boolean writeIfChanged) {
+        if (option instanceof OutputSink) {
+            return (OutputSink) option;
+        }
+        final String value = option == null ? null : option.toString().trim();
+        if (StringUtils.isBlank(value) || FILE_SYSTEM.equalsIgnoreCase(value)) {
+            return writeIfChanged ? new WriteIfChangedSink() : new FileSystemOutputSink();
+        }
+        if (MEMORY.equalsIgnoreCase(value)) {
+            return new InMemoryOutputSink(new File(outputFolder));
+        }
+        final String extension = StringUtils.lowerCase(StringUtils.substringAfterLast(value, "."));
+        if ("zip".equals(extension) || "jar".equals(extension)) {
+            try {
+                final File archive = new File(value);
+                if (archive.getParentFile() != null) {
+                    archive.getParentFile().mkdirs();
+                }
+                final OutputStream out = new BufferedOutputStream(new FileOutputStream(archive));
+                return "jar".equals(extension)
+                        ? new ZipOutputSink(new File(outputFolder), new JarOutputStream(out))
+                        : new ZipOutputSink(new File(outputFolder), out);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not create archive " + value, e);
+            }
+        }
+        throw new IllegalArgumentException("Unknown output sink " + value
+                + ", expected " + FILE_SYSTEM + ", " + MEMORY + " or the path of a .zip or .jar archive");
+    }
+
+    /**
+     * @param outputFolder output folder
+     * @param file file in the output folder
+     * @return path of the file relative to the output folder, separated by '/'
+     */
+    static String relativePath(File outputFolder, File file) {
+        final Path root = outputFolder.toPath().toAbsolutePath().normalize();
+        Path path = file.toPath().toAbsolutePath().normalize();
+        if (path.startsWith(root)) {
+            path = root.relativize(path);
+        } else if (path.getRoot() != null) {
+            path = path.getRoot().relativize(path);
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+}
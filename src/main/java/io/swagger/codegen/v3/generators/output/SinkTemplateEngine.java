@@ -0,0 +1,45 @@
+package io.swagger.codegen.v3.generators.output;
+
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Template engine handing the content of each rendering to a listener, e.g. to send the rendered files to an
+ * {@link OutputSink} as they are rendered. The rendered content is still returned to the generator.
+ */
+public class SinkTemplateEngine implements TemplateEngine {
+
+    /**
+     * Receives the rendered content before it is returned to the generator.
+     */
+    public interface Listener {
+
+        void rendered(String templateFile, String content) throws IOException;
+    }
+
+    private final TemplateEngine templateEngine;
+    private final Listener listener;
+
+    public SinkTemplateEngine(TemplateEngine templateEngine, Listener listener) {
+        this.templateEngine = templateEngine;
+        this.listener = listener;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        final String content = templateEngine.getRendered(templateFile, templateData);
+        listener.rendered(templateFile, content);
+        return content;
+    }
+
+    @Override
+    public String getName() {
+        return templateEngine.getName();
+    }
+
+    public TemplateEngine getTemplateEngine() {
+        return templateEngine;
+    }
+}
@@ -0,0 +1,152 @@
+package io.swagger.codegen.v3.generators.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the timestamp of the generated files whose content did not change, so that they don't trigger a rebuild of
+ * the generated project.
+ *
+ * Files written by this sink are compared with the existing file before writing, and not written when identical.
+ * Files written by the generator (rendered templates) are always rewritten by it, since it writes them outside this
+ * module: they are tracked before being overwritten, and {@link #restoreUnchangedTimestamps()} gives back their
+ * previous timestamp to the files whose content is identical. It should be called as soon as the tracked files are
+ * written: a file overwritten before a crash keeps its content but gets a new timestamp.
+ */
+public class WriteIfChangedSink extends FileSystemOutputSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteIfChangedSink.class);
+
+    private final Map<File, Snapshot> tracked = new ConcurrentHashMap<>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    /**
+     * @param file file to write
+     * @param content content of the file
+     * @return true if the file was written, false if it already had the given content
+     * @throws IOException if the file can't be read or written
+     */
+    @Override
+    public boolean write(File file, byte[] content) throws IOException {
+        if (file.isFile() && file.length() == content.length
+                && Arrays.equals(digest(file), digest().digest(content))) {
+            unchanged.incrementAndGet();
+            return false;
+        }
+        super.write(file, content);
+        written.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Record the content hash and the timestamp of a file which is about to be written by the generator.
+     *
+     * @param file file about to be written, or overwritten
+     */
+    public void track(File file) {
+        if (tracked.containsKey(file)) {
+            return;
+        }
+        if (!file.isFile()) {
+            tracked.put(file, Snapshot.NEW_FILE);
+            return;
+        }
+        try {
+            tracked.put(file, new Snapshot(file.length(), file.lastModified(), digest(file)));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read {}, its timestamp won't be restored: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Give back their previous timestamp to the tracked files which were overwritten with the same content, and
+     * count the tracked files as written or unchanged.
+     */
+    public void restoreUnchangedTimestamps() {
+        for (Map.Entry<File, Snapshot> entry : tracked.entrySet()) {
+            final File file = entry.getKey();
+            final Snapshot snapshot = entry.getValue();
+            tracked.remove(file);
+            if (snapshot == Snapshot.NEW_FILE) {
+                if (file.isFile()) {
+                    written.incrementAndGet();
+                }
+                continue;
+            }
+            try {
+                if (file.isFile() && file.length() == snapshot.length && Arrays.equals(digest(file), snapshot.digest)) {
+                    if (file.lastModified() != snapshot.lastModified && !file.setLastModified(snapshot.lastModified)) {
+                        LOGGER.debug("Could not restore the timestamp of {}", file);
+                    }
+                    unchanged.incrementAndGet();
+                } else {
+                    written.incrementAndGet();
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Could not read {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return number of files written with a new content
+     */
+    public int getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * @return number of files left as they were, or whose timestamp was restored, since their content did not change
+     */
+    public int getUnchangedCount() {
+        return unchanged.get();
+    }
+
+    private static byte[] digest(File file) throws IOException {
+        final MessageDigest digest = digest();
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            final byte[] buffer = new byte[8192];
+            while (input.read(buffer) >= 0) {
+                // digest is updated by the stream
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Snapshot {
+
+        // the file did not exist
+        static final Snapshot NEW_FILE = new Snapshot(-1, 0, null);
+
+        private final long length;
+        private final long lastModified;
+        private final byte[] digest;
+
+        Snapshot(long length, long lastModified, byte[] digest) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.digest = digest;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.swagger.codegen.v3.generators.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams the generated files as entries of a zip (or jar) archive. The generator still writes every file to disk: to a
+ * temporary scratch folder, deleted at the end of the generation, the output folder itself is not written to.
+ *
+ * Entries are named by the path of the files relative to the output folder. An entry can't be written twice, so a
+ * file written again is skipped.
+ */
+public class ZipOutputSink implements OutputSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private final File outputFolder;
+    private final ZipOutputStream zip;
+    private final Set<String> entries = new HashSet<>();
+
+    /**
+     * @param outputFolder output folder the entries are relative to
+     * @param out stream of the archive, closed with the sink
+     */
+    public ZipOutputSink(File outputFolder, OutputStream out) {
+        this(outputFolder, new ZipOutputStream(out));
+    }
+
+    /**
+     * @param outputFolder output folder the entries are relative to
+     * @param zip archive, e.g. a {@link JarOutputStream}, closed with the sink
+     */
+    public ZipOutputSink(File outputFolder, ZipOutputStream zip) {
+        this.outputFolder = outputFolder;
+        this.zip = zip;
+    }
+
+    @Override
+    public synchronized boolean write(File file, byte[] content) throws IOException {
+        final String name = OutputSinks.relativePath(outputFolder, file);
+        if (!entries.add(name)) {
+            LOGGER.warn("{} was already written to the archive, skipping it", name);
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean exists(File file) {
+        return entries.contains(OutputSinks.relativePath(outputFolder, file));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        zip.close();
+    }
+}
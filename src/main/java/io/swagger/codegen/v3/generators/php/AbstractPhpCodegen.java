@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.CaseFormatUtil;
 
 import java.io.File;
 import java.util.Arrays;
@@ -614,7 +615,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         }
 
         // string
-        String enumName = sanitizeName(underscore(name).toUpperCase());
+        String enumName = sanitizeName(CaseFormatUtil.screamingSnakeCase(name));
         enumName = enumName.replaceFirst("^_", "");
         enumName = enumName.replaceFirst("_$", "");
 
@@ -627,7 +628,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toEnumName(CodegenProperty property) {
-        String enumName = underscore(toModelName(property.name)).toUpperCase();
+        String enumName = CaseFormatUtil.screamingSnakeCase(toModelName(property.name));
 
         if (enumName.matches("\\d.*")) { // starts with number
             return "_" + enumName;
@@ -9,6 +9,7 @@ import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.CaseFormatUtil;
 
 import java.io.File;
 import java.util.Arrays;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.HashSet;
 import java.util.regex.Matcher;
 
@@ -38,6 +40,63 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
     public static final String SRC_BASE_PATH = "srcBasePath";
     public static final String COMPOSER_VENDOR_NAME = "composerVendorName";
     public static final String COMPOSER_PROJECT_NAME = "composerProjectName";
+    private static final Set<String> RESERVED_WORDS = lowerCaseSet(
+            // local variables used in api methods (endpoints)
+            "resourcePath", "httpBody", "queryParams", "headerParams",
+            "formParams", "_header_accept", "_tempBody",
+
+            // PHP reserved words
+            "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor");
+
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "bool",
+                    "boolean",
+                    "int",
+                    "integer",
+                    "double",
+                    "float",
+                    "string",
+                    "object",
+                    "DateTime",
+                    "mixed",
+                    "number",
+                    "void",
+                    "byte")));
+
+    private static final String PRIMITIVES;
+
+    private static final Map<String, String> TYPE_MAPPING;
+
+    static {
+        List<String> sortedLanguageSpecificPrimitives = new ArrayList<String>(LANGUAGE_SPECIFIC_PRIMITIVES);
+        Collections.sort(sortedLanguageSpecificPrimitives);
+        PRIMITIVES = "'" + StringUtils.join(sortedLanguageSpecificPrimitives, "', '") + "'";
+
+        final Map<String, String> typeMapping = new HashMap<String, String>();
+        typeMapping.put("integer", "int");
+        typeMapping.put("long", "int");
+        typeMapping.put("number", "float");
+        typeMapping.put("float", "float");
+        typeMapping.put("double", "double");
+        typeMapping.put("string", "string");
+        typeMapping.put("byte", "int");
+        typeMapping.put("boolean", "bool");
+        typeMapping.put("date", "\\DateTime");
+        typeMapping.put("Date", "\\DateTime");
+        typeMapping.put("DateTime", "\\DateTime");
+        typeMapping.put("file", "\\SplFileObject");
+        typeMapping.put("map", "map");
+        typeMapping.put("array", "array");
+        typeMapping.put("list", "array");
+        typeMapping.put("object", "object");
+        typeMapping.put("binary", "string");
+        typeMapping.put("ByteArray", "string");
+        typeMapping.put("BigDecimal", "float");
+        typeMapping.put("UUID", "string");
+        TYPE_MAPPING = Collections.unmodifiableMap(typeMapping);
+    }
+
     protected String invokerPackage = "Swagger\\Client";
     protected String composerVendorName = null;
     protected String composerProjectName = null;
@@ -72,66 +131,19 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         modelDocTemplateFiles.put("model_doc.mustache", ".md");
         apiDocTemplateFiles.put("api_doc.mustache", ".md");
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                    // local variables used in api methods (endpoints)
-                    "resourcePath", "httpBody", "queryParams", "headerParams",
-                    "formParams", "_header_accept", "_tempBody",
-
-                    // PHP reserved words
-                    "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor")
-        );
-
+        setReservedWords(RESERVED_WORDS);
         // ref: http://php.net/manual/en/language.types.intro.php
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "bool",
-                        "boolean",
-                        "int",
-                        "integer",
-                        "double",
-                        "float",
-                        "string",
-                        "object",
-                        "DateTime",
-                        "mixed",
-                        "number",
-                        "void",
-                        "byte")
-        );
+        languageSpecificPrimitives = new HashSet<String>(LANGUAGE_SPECIFIC_PRIMITIVES);
 
         instantiationTypes.put("array", "array");
         instantiationTypes.put("map", "map");
 
 
         // provide primitives to mustache template
-        List<String> sortedLanguageSpecificPrimitives= new ArrayList<String>(languageSpecificPrimitives);
-        Collections.sort(sortedLanguageSpecificPrimitives);
-        String primitives = "'" + StringUtils.join(sortedLanguageSpecificPrimitives, "', '") + "'";
-        additionalProperties.put("primitives", primitives);
+        additionalProperties.put("primitives", PRIMITIVES);
 
         // ref: https://github.com/OAI/OpenAPI-Specification/blob/master/versions/2.0.md#data-types
-        typeMapping = new HashMap<String, String>();
-        typeMapping.put("integer", "int");
-        typeMapping.put("long", "int");
-        typeMapping.put("number", "float");
-        typeMapping.put("float", "float");
-        typeMapping.put("double", "double");
-        typeMapping.put("string", "string");
-        typeMapping.put("byte", "int");
-        typeMapping.put("boolean", "bool");
-        typeMapping.put("date", "\\DateTime");
-        typeMapping.put("Date", "\\DateTime");
-        typeMapping.put("DateTime", "\\DateTime");
-        typeMapping.put("file", "\\SplFileObject");
-        typeMapping.put("map", "map");
-        typeMapping.put("array", "array");
-        typeMapping.put("list", "array");
-        typeMapping.put("object", "object");
-        typeMapping.put("binary", "string");
-        typeMapping.put("ByteArray", "string");
-        typeMapping.put("BigDecimal", "float");
-        typeMapping.put("UUID", "string");
+        typeMapping = new HashMap<String, String>(TYPE_MAPPING);
 
         cliOptions.add(new CliOption(CodegenConstants.MODEL_PACKAGE, CodegenConstants.MODEL_PACKAGE_DESC));
         cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
@@ -699,7 +711,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         }
 
         // string
-        String enumName = sanitizeName(underscore(name).toUpperCase());
+        String enumName = sanitizeName(CaseFormatUtil.screamingSnakeCase(name));
         enumName = enumName.replaceFirst("^_", "");
         enumName = enumName.replaceFirst("_$", "");
 
@@ -712,7 +724,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toEnumName(CodegenProperty property) {
-        String enumName = underscore(toModelName(property.name)).toUpperCase();
+        String enumName = CaseFormatUtil.screamingSnakeCase(toModelName(property.name));
 
         // remove [] for array or map of enum
         enumName = enumName.replace("[]", "");
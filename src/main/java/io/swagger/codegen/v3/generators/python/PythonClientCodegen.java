@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -53,6 +54,11 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
     public PythonClientCodegen() {
         super();
 
+        // remove ' to avoid code injection
+        quotationMarkEscaper = new TextEscaper().removeCharacter('\'');
+        // remove multiline comment
+        unsafeCharactersEscaper = new TextEscaper().addSequenceReplacement("'''", "'_'_'");
+
         // clear import mapping (from default generator) as python does not use it
         // at the moment
         importMapping.clear();
@@ -696,16 +702,4 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
     public String getDefaultTemplateDir() {
         return "python";
     }
-
-    @Override
-    public String escapeQuotationMark(String input) {
-        // remove ' to avoid code injection
-        return input.replace("'", "");
-    }
-
-    @Override
-    public String escapeUnsafeCharacters(String input) {
-        // remove multiline comment
-        return input.replace("'''", "'_'_'");
-    }
 }
@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.CaseFormatUtil;
 
 import java.io.File;
 import java.util.Arrays;
@@ -434,7 +435,7 @@ public class RClientCodegen extends DefaultCodegenConfig {
         }
 
         // string
-        String enumName = sanitizeName(underscore(name).toUpperCase());
+        String enumName = sanitizeName(CaseFormatUtil.screamingSnakeCase(name));
         enumName = enumName.replaceFirst("^_", "");
         enumName = enumName.replaceFirst("_$", "");
 
@@ -447,7 +448,7 @@ public class RClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toEnumName(CodegenProperty property) {
-        String enumName = underscore(toModelName(property.name)).toUpperCase();
+        String enumName = CaseFormatUtil.screamingSnakeCase(toModelName(property.name));
 
         // remove [] for array or map of enum
         enumName = enumName.replace("[]", "");
@@ -0,0 +1,67 @@
+package io.swagger.codegen.v3.generators.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generation of a document by a generator of a {@link GenerationService}.
+ */
+public class GenerationRequest {
+
+    private String lang;
+    private String inputSpec;
+    private String outputDir;
+    private Map<String, Object> additionalProperties = new LinkedHashMap<>();
+
+    public GenerationRequest() {
+    }
+
+    public GenerationRequest(String lang, String inputSpec, String outputDir) {
+        this.lang = lang;
+        this.inputSpec = inputSpec;
+        this.outputDir = outputDir;
+    }
+
+    public String getLang() {
+        return lang;
+    }
+
+    public void setLang(String lang) {
+        this.lang = lang;
+    }
+
+    /**
+     * @return path or url of the document
+     */
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
+    public void setInputSpec(String inputSpec) {
+        this.inputSpec = inputSpec;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(String outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * @return additional properties of the generator, e.g. library or templateDir
+     */
+    public Map<String, Object> getAdditionalProperties() {
+        return additionalProperties;
+    }
+
+    public void setAdditionalProperties(Map<String, Object> additionalProperties) {
+        this.additionalProperties = additionalProperties == null ? new LinkedHashMap<>() : additionalProperties;
+    }
+
+    public GenerationRequest additionalProperty(String name, Object value) {
+        additionalProperties.put(name, value);
+        return this;
+    }
+}
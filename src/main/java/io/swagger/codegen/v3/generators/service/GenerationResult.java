@@ -0,0 +1,63 @@
+package io.swagger.codegen.v3.generators.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Files generated for a {@link GenerationRequest}, or the error which stopped the generation.
+ */
+public class GenerationResult {
+
+    private String lang;
+    private String outputDir;
+    private List<String> files = new ArrayList<>();
+    private long durationMillis;
+    private String error;
+
+    public String getLang() {
+        return lang;
+    }
+
+    public void setLang(String lang) {
+        this.lang = lang;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(String outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public List<String> getFiles() {
+        return files;
+    }
+
+    public void setFiles(List<String> files) {
+        this.files = files;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return message of the error which stopped the generation, null if the generation succeeded
+     */
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,232 @@
+package io.swagger.codegen.v3.generators.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.swagger.codegen.v3.generators.GeneratorDescriptors;
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local front ends of a {@link GenerationService}:
+ * <ul>
+ * <li>HTTP on the loopback interface: POST /generate with a {@link GenerationRequest} as JSON, answered by a
+ * {@link GenerationResult}; GET /generators lists the generators;</li>
+ * <li>standard input: one {@link GenerationRequest} as JSON per line, one {@link GenerationResult} written per line
+ * as each generation completes.</li>
+ * </ul>
+ *
+ * The HTTP requests must carry the token generated when the server starts, as {@code Authorization: Bearer <token>},
+ * and generation requests must be sent as {@code application/json}, so that pages opened in a local browser can not
+ * run generations.
+ *
+ * Usage: {@code GenerationServer [--port <port>] [--threads <threads>] [--warm-up <lang,lang...>]
+ * [--output-root <dir>]}, reads the standard input when no port is given. Output directories are resolved under the
+ * output root, the working directory by default.
+ */
+public class GenerationServer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationServer.class);
+
+    private final GenerationService service;
+    private HttpServer server;
+    private ExecutorService executor;
+    private String token;
+
+    public GenerationServer(GenerationService service) {
+        this.service = service;
+    }
+
+    /**
+     * @param port port to listen to on the loopback interface, 0 for any free port
+     * @return address the server listens to
+     */
+    public InetSocketAddress start(int port) throws IOException {
+        final byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/generate", this::handleGenerate);
+        server.createContext("/generators", this::handleGenerators);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        LOGGER.info("generation server listening on {}", server.getAddress());
+        return server.getAddress();
+    }
+
+    /**
+     * @return token the HTTP requests must carry, generated by {@link #start(int)}
+     */
+    public String getToken() {
+        return token;
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        if (!isAuthorized(exchange)) {
+            respond(exchange, 401, error("Missing or invalid token"));
+            return;
+        }
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, error("POST a generation request"));
+            return;
+        }
+        final String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.trim().toLowerCase(Locale.ROOT).startsWith("application/json")) {
+            respond(exchange, 415, error("Send the generation request as application/json"));
+            return;
+        }
+        final GenerationRequest request;
+        try {
+            request = Json.mapper().readValue(exchange.getRequestBody(), GenerationRequest.class);
+        } catch (IOException e) {
+            respond(exchange, 400, error("Invalid generation request: " + e.getMessage()));
+            return;
+        }
+        final GenerationResult result = service.submit(request).join();
+        respond(exchange, result.isSuccess() ? 200 : 500, result);
+    }
+
+    private void handleGenerators(HttpExchange exchange) throws IOException {
+        if (!isAuthorized(exchange)) {
+            respond(exchange, 401, error("Missing or invalid token"));
+            return;
+        }
+        respond(exchange, 200, GeneratorDescriptors.getDescriptors());
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                authorization.substring("Bearer ".length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        final byte[] content = Json.mapper().writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Runs the generation requests read from the reader, one JSON request per line, until its end.
+     *
+     * @param in generation requests
+     * @param out generation results, one JSON result per line in completion order
+     */
+    public void serve(BufferedReader in, Writer out) throws IOException {
+        final List<CompletableFuture<Void>> generations = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            CompletableFuture<GenerationResult> result;
+            try {
+                result = service.submit(Json.mapper().readValue(line, GenerationRequest.class));
+            } catch (IOException e) {
+                result = CompletableFuture.completedFuture(error("Invalid generation request: " + e.getMessage()));
+            }
+            generations.add(result.thenAccept(generationResult -> writeLine(out, generationResult)));
+        }
+        CompletableFuture.allOf(generations.toArray(new CompletableFuture[0])).join();
+        out.flush();
+    }
+
+    private static void writeLine(Writer out, GenerationResult result) {
+        synchronized (out) {
+            try {
+                out.write(Json.mapper().writeValueAsString(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                LOGGER.error("Could not write generation result", e);
+            }
+        }
+    }
+
+    private static GenerationResult error(String message) {
+        final GenerationResult result = new GenerationResult();
+        result.setError(message);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Integer port = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<String> warmUp = new ArrayList<>();
+        File outputRoot = new File(".");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if ("--port".equals(args[i])) {
+                port = Integer.parseInt(args[i + 1]);
+            } else if ("--threads".equals(args[i])) {
+                threads = Integer.parseInt(args[i + 1]);
+            } else if ("--warm-up".equals(args[i])) {
+                warmUp = Arrays.asList(args[i + 1].split(","));
+            } else if ("--output-root".equals(args[i])) {
+                outputRoot = new File(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        final GenerationService service = new GenerationService(threads, outputRoot);
+        service.warmUp(warmUp);
+        final GenerationServer server = new GenerationServer(service);
+        if (port != null) {
+            final InetSocketAddress address = server.start(port);
+            // the client reads the token from the output of the process
+            System.out.println("http://" + address.getHostString() + ":" + address.getPort() + " " + server.getToken());
+            System.out.flush();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                service.close();
+            }));
+            return;
+        }
+        try {
+            server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                    new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        } finally {
+            service.close();
+        }
+    }
+}
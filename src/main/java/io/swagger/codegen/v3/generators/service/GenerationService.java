@@ -0,0 +1,223 @@
+package io.swagger.codegen.v3.generators.service;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.GeneratorDescriptor;
+import io.swagger.codegen.v3.generators.GeneratorDescriptors;
+import io.swagger.codegen.v3.generators.output.OutputSinks;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived generation facade, to run many generations in a same process: generator classes, their language
+ * arguments and the compiled templates are loaded once, and each generation gets a new generator created from the
+ * warmed descriptor of its language, so that no state is carried over from a previous generation.
+ *
+ * Generations are run concurrently on the threads of the service, see {@link #submit(GenerationRequest)}. The output
+ * directory of a request, its template directory and the files named by its additional properties are resolved
+ * against the output root of the service, and rejected if they are outside of it. The generators build their folders
+ * from the output directory and the additional properties (e.g. sourceFolder), so a request with an additional
+ * property going up a directory ("..") is rejected as well. The input spec is read from wherever it is.
+ */
+public class GenerationService implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationService.class);
+
+    private final ExecutorService executor;
+    private final Path outputRoot;
+    private final Map<String, GeneratorDescriptor> generators = new ConcurrentHashMap<>();
+
+    /**
+     * @param threads number of generations run at the same time
+     * @param outputRoot directory holding the output directories of all generations
+     */
+    public GenerationService(int threads, File outputRoot) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, got " + threads);
+        }
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.outputRoot = outputRoot.toPath().toAbsolutePath().normalize();
+    }
+
+    public File getOutputRoot() {
+        return outputRoot.toFile();
+    }
+
+    /**
+     * Loads the generators of the given languages and their language arguments, before the first generation.
+     *
+     * @param languages generator names, e.g. java
+     */
+    public void warmUp(Collection<String> languages) {
+        for (String language : languages) {
+            getGenerator(language);
+        }
+    }
+
+    /**
+     * @return names of the warmed generators
+     */
+    public Collection<String> getWarmedLanguages() {
+        return generators.keySet();
+    }
+
+    /**
+     * @param request generation to run on the threads of the service
+     * @return result of the generation, never completed exceptionally
+     */
+    public CompletableFuture<GenerationResult> submit(GenerationRequest request) {
+        return CompletableFuture.supplyAsync(() -> generate(request), executor);
+    }
+
+    /**
+     * @param request generation to run in the calling thread
+     * @return result of the generation, with the error which stopped it if it failed
+     */
+    public GenerationResult generate(GenerationRequest request) {
+        final long start = System.currentTimeMillis();
+        final GenerationResult result = new GenerationResult();
+        result.setLang(request.getLang());
+        try {
+            if (StringUtils.isBlank(request.getInputSpec()) || StringUtils.isBlank(request.getOutputDir())) {
+                throw new IllegalArgumentException("inputSpec and outputDir are required");
+            }
+            final File outputDir = resolveOutputFile(request.getOutputDir());
+            result.setOutputDir(outputDir.getPath());
+            final CodegenConfig config = newGenerator(request.getLang());
+            config.setOutputDir(outputDir.getPath());
+            config.additionalProperties().putAll(resolveAdditionalProperties(request.getAdditionalProperties()));
+            config.setLanguageArguments(config.readLanguageArguments());
+            if (config.needsUnflattenedSpec()) {
+                config.setUnflattenedOpenAPI(parse(request.getInputSpec(), false));
+            }
+            final ClientOptInput input = new ClientOptInput()
+                    .opts(new ClientOpts())
+                    .openAPI(parse(request.getInputSpec(), true))
+                    .config(config);
+            for (File file : new DefaultGenerator().opts(input).generate()) {
+                result.getFiles().add(file.getPath());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not generate {} from {}", request.getLang(), request.getInputSpec(), e);
+            result.setError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+        result.setDurationMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * @param path path relative to the output root, or absolute path under it
+     * @return absolute file of the path
+     * @throws IllegalArgumentException if the path is outside of the output root
+     */
+    File resolveOutputFile(String path) {
+        final Path resolved = outputRoot.resolve(path).normalize();
+        if (!resolved.startsWith(outputRoot)) {
+            throw new IllegalArgumentException(path + " is outside of the output root " + outputRoot);
+        }
+        return resolved.toFile();
+    }
+
+    private Map<String, Object> resolveAdditionalProperties(Map<String, Object> additionalProperties) {
+        final Map<String, Object> resolved = new LinkedHashMap<>(additionalProperties);
+        for (Map.Entry<String, Object> property : resolved.entrySet()) {
+            if (property.getValue() instanceof String && isParentPath((String) property.getValue())) {
+                throw new IllegalArgumentException(property.getKey() + " " + property.getValue()
+                        + " is outside of the output root " + outputRoot);
+            }
+        }
+        final Object templateDir = resolved.get(CodegenConstants.TEMPLATE_DIR);
+        if (templateDir != null) {
+            resolved.put(CodegenConstants.TEMPLATE_DIR, resolveOutputFile(templateDir.toString()).getPath());
+        }
+        final Object report = resolved.get(DefaultCodegenConfig.INSTRUMENTATION_REPORT);
+        if (report != null) {
+            resolved.put(DefaultCodegenConfig.INSTRUMENTATION_REPORT, resolveOutputFile(report.toString()).getPath());
+        }
+        final Object sink = resolved.get(DefaultCodegenConfig.OUTPUT_SINK);
+        if (sink != null && !OutputSinks.FILE_SYSTEM.equalsIgnoreCase(sink.toString().trim())
+                && !OutputSinks.MEMORY.equalsIgnoreCase(sink.toString().trim())) {
+            // path of an archive
+            resolved.put(DefaultCodegenConfig.OUTPUT_SINK, resolveOutputFile(sink.toString().trim()).getPath());
+        }
+        return resolved;
+    }
+
+    private static boolean isParentPath(String value) {
+        for (String segment : value.split("[/\\\\]")) {
+            if ("..".equals(segment.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param language generator name, e.g. java
+     * @return new generator of the language, created without configuration
+     */
+    public CodegenConfig newGenerator(String language) {
+        return getGenerator(language).newInstance(GenerationService.class.getClassLoader());
+    }
+
+    private GeneratorDescriptor getGenerator(String language) {
+        if (StringUtils.isBlank(language)) {
+            throw new IllegalArgumentException("lang is required");
+        }
+        return generators.computeIfAbsent(language, name -> {
+            final GeneratorDescriptor descriptor = GeneratorDescriptors.getDescriptor(name);
+            if (descriptor == null) {
+                throw new IllegalArgumentException("Unknown generator " + name);
+            }
+            // loads the generator class and caches its language arguments
+            descriptor.newInstance(GenerationService.class.getClassLoader()).readLanguageArguments();
+            return descriptor;
+        });
+    }
+
+    private static OpenAPI parse(String inputSpec, boolean flatten) {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(flatten);
+        final SwaggerParseResult result = new OpenAPIV3Parser().readLocation(inputSpec, null, options);
+        if (result == null || result.getOpenAPI() == null) {
+            throw new IllegalArgumentException("Could not parse " + inputSpec
+                    + (result == null || result.getMessages() == null ? "" : ": " + result.getMessages()));
+        }
+        return result.getOpenAPI();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
@@ -687,4 +688,10 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         return codegenModel;
     }
 
+    @Override
+    protected List<String> getExampleMediaTypes(ApiResponse response) {
+        // the api templates render the examples in the doc comments of the operations
+        return getJsonExampleMediaTypes(response);
+    }
+
 }
@@ -52,6 +52,115 @@ public class Swift5Codegen extends DefaultCodegenConfig {
     private static final String LIBRARY_PROMISE_KIT = "PromiseKit";
     private static final String LIBRARY_RX_SWIFT = "RxSwift";
     private static final String[] RESPONSE_LIBRARIES = {LIBRARY_PROMISE_KIT, LIBRARY_RX_SWIFT};
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList(
+            "Int",
+            "Int32",
+            "Int64",
+            "Float",
+            "Double",
+            "Bool",
+            "Void",
+            "String",
+            "Character",
+            "AnyObject",
+            "Any")));
+
+    private static final Set<String> DEFAULT_INCLUDES = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList(
+            "Data",
+            "Date",
+            "URL", // for file
+            "UUID",
+            "Array",
+            "Dictionary",
+            "Set",
+            "Any",
+            "Empty",
+            "AnyObject",
+            "Any")));
+
+    private static final Set<String> RESERVED_WORDS = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList(
+            // name used by swift client
+            "ErrorResponse", "Response",
+
+            // Added for Objective-C compatibility
+            "id", "description", "NSArray", "NSURL", "CGFloat", "NSSet", "NSString", "NSInteger", "NSUInteger",
+            "NSError", "NSDictionary",
+
+            //
+            // Swift keywords. This list is taken from here:
+            // https://developer.apple.com/library/content/documentation/Swift/Conceptual/Swift_Programming_Language/LexicalStructure.html#//apple_ref/doc/uid/TP40014097-CH30-ID410
+            //
+            // Keywords used in declarations
+            "associatedtype", "class", "deinit", "enum", "extension", "fileprivate", "func", "import", "init",
+            "inout", "internal", "let", "open", "operator", "private", "protocol", "public", "static", "struct",
+            "subscript", "typealias", "var",
+            // Keywords uses in statements
+            "break", "case", "continue", "default", "defer", "do", "else", "fallthrough", "for", "guard", "if",
+            "in", "repeat", "return", "switch", "where", "while",
+            // Keywords used in expressions and types
+            "as", "Any", "catch", "false", "is", "nil", "rethrows", "super", "self", "Self", "throw", "throws", "true", "try",
+            // Keywords used in patterns
+            "_",
+            // Keywords that begin with a number sign
+            "#available", "#colorLiteral", "#column", "#else", "#elseif", "#endif", "#file", "#fileLiteral", "#function", "#if",
+            "#imageLiteral", "#line", "#selector", "#sourceLocation",
+            // Keywords reserved in particular contexts
+            "associativity", "convenience", "dynamic", "didSet", "final", "get", "infix", "indirect", "lazy", "left",
+            "mutating", "none", "nonmutating", "optional", "override", "postfix", "precedence", "prefix", "Protocol",
+            "required", "right", "set", "Type", "unowned", "weak", "willSet",
+
+            //
+            // Swift Standard Library types
+            // https://developer.apple.com/documentation/swift
+            //
+            // Numbers and Basic Values
+            "Bool", "Int", "Double", "Float", "Range", "ClosedRange", "Error", "Optional",
+            // Special-Use Numeric Types
+            "UInt", "UInt8", "UInt16", "UInt32", "UInt64", "Int8", "Int16", "Int32", "Int64", "Float80", "Float32", "Float64",
+            // Strings and Text
+            "String", "Character", "Unicode", "StaticString",
+            // Collections
+            "Array", "Dictionary", "Set", "OptionSet", "CountableRange", "CountableClosedRange",
+
+            // The following are commonly-used Foundation types
+            "URL", "Data", "Codable", "Encodable", "Decodable",
+
+            // The following are other words we want to reserve
+            "Void", "AnyObject", "Class", "dynamicType", "COLUMN", "FILE", "FUNCTION", "LINE"
+        )));
+
+    private static final Map<String, String> TYPE_MAPPING;
+
+    static {
+        final Map<String, String> typeMapping = new HashMap<>();
+        typeMapping.put("array", "Array");
+        typeMapping.put("List", "Array");
+        typeMapping.put("map", "Dictionary");
+        typeMapping.put("date", "Date");
+        typeMapping.put("Date", "Date");
+        typeMapping.put("DateTime", "Date");
+        typeMapping.put("boolean", "Bool");
+        typeMapping.put("string", "String");
+        typeMapping.put("char", "Character");
+        typeMapping.put("short", "Int");
+        typeMapping.put("int", "Int");
+        typeMapping.put("long", "Int64");
+        typeMapping.put("integer", "Int");
+        typeMapping.put("Integer", "Int");
+        typeMapping.put("float", "Float");
+        typeMapping.put("number", "Double");
+        typeMapping.put("double", "Double");
+        typeMapping.put("object", "JSONValue");
+        typeMapping.put("file", "URL");
+        typeMapping.put("binary", "Data");
+        typeMapping.put("ByteArray", "Data");
+        typeMapping.put("UUID", "UUID");
+        TYPE_MAPPING = Collections.unmodifiableMap(typeMapping);
+    }
+
     protected String projectName = "SwaggerClient";
     private boolean unwrapRequired;
     private boolean objcCompatible = false;
@@ -97,110 +206,11 @@ public class Swift5Codegen extends DefaultCodegenConfig {
         apiPackage = File.separator + "APIs";
         modelPackage = File.separator + "Models";
 
-        languageSpecificPrimitives = new HashSet<>(
-            Arrays.asList(
-                "Int",
-                "Int32",
-                "Int64",
-                "Float",
-                "Double",
-                "Bool",
-                "Void",
-                "String",
-                "Character",
-                "AnyObject",
-                "Any")
-        );
-        defaultIncludes = new HashSet<>(
-            Arrays.asList(
-                "Data",
-                "Date",
-                "URL", // for file
-                "UUID",
-                "Array",
-                "Dictionary",
-                "Set",
-                "Any",
-                "Empty",
-                "AnyObject",
-                "Any")
-        );
-        reservedWords = new HashSet<>(
-            Arrays.asList(
-                // name used by swift client
-                "ErrorResponse", "Response",
-
-                // Added for Objective-C compatibility
-                "id", "description", "NSArray", "NSURL", "CGFloat", "NSSet", "NSString", "NSInteger", "NSUInteger",
-                "NSError", "NSDictionary",
-
-                //
-                // Swift keywords. This list is taken from here:
-                // https://developer.apple.com/library/content/documentation/Swift/Conceptual/Swift_Programming_Language/LexicalStructure.html#//apple_ref/doc/uid/TP40014097-CH30-ID410
-                //
-                // Keywords used in declarations
-                "associatedtype", "class", "deinit", "enum", "extension", "fileprivate", "func", "import", "init",
-                "inout", "internal", "let", "open", "operator", "private", "protocol", "public", "static", "struct",
-                "subscript", "typealias", "var",
-                // Keywords uses in statements
-                "break", "case", "continue", "default", "defer", "do", "else", "fallthrough", "for", "guard", "if",
-                "in", "repeat", "return", "switch", "where", "while",
-                // Keywords used in expressions and types
-                "as", "Any", "catch", "false", "is", "nil", "rethrows", "super", "self", "Self", "throw", "throws", "true", "try",
-                // Keywords used in patterns
-                "_",
-                // Keywords that begin with a number sign
-                "#available", "#colorLiteral", "#column", "#else", "#elseif", "#endif", "#file", "#fileLiteral", "#function", "#if",
-                "#imageLiteral", "#line", "#selector", "#sourceLocation",
-                // Keywords reserved in particular contexts
-                "associativity", "convenience", "dynamic", "didSet", "final", "get", "infix", "indirect", "lazy", "left",
-                "mutating", "none", "nonmutating", "optional", "override", "postfix", "precedence", "prefix", "Protocol",
-                "required", "right", "set", "Type", "unowned", "weak", "willSet",
-
-                //
-                // Swift Standard Library types
-                // https://developer.apple.com/documentation/swift
-                //
-                // Numbers and Basic Values
-                "Bool", "Int", "Double", "Float", "Range", "ClosedRange", "Error", "Optional",
-                // Special-Use Numeric Types
-                "UInt", "UInt8", "UInt16", "UInt32", "UInt64", "Int8", "Int16", "Int32", "Int64", "Float80", "Float32", "Float64",
-                // Strings and Text
-                "String", "Character", "Unicode", "StaticString",
-                // Collections
-                "Array", "Dictionary", "Set", "OptionSet", "CountableRange", "CountableClosedRange",
-
-                // The following are commonly-used Foundation types
-                "URL", "Data", "Codable", "Encodable", "Decodable",
-
-                // The following are other words we want to reserve
-                "Void", "AnyObject", "Class", "dynamicType", "COLUMN", "FILE", "FUNCTION", "LINE"
-            )
-        );
-
-        typeMapping = new HashMap<>();
-        typeMapping.put("array", "Array");
-        typeMapping.put("List", "Array");
-        typeMapping.put("map", "Dictionary");
-        typeMapping.put("date", "Date");
-        typeMapping.put("Date", "Date");
-        typeMapping.put("DateTime", "Date");
-        typeMapping.put("boolean", "Bool");
-        typeMapping.put("string", "String");
-        typeMapping.put("char", "Character");
-        typeMapping.put("short", "Int");
-        typeMapping.put("int", "Int");
-        typeMapping.put("long", "Int64");
-        typeMapping.put("integer", "Int");
-        typeMapping.put("Integer", "Int");
-        typeMapping.put("float", "Float");
-        typeMapping.put("number", "Double");
-        typeMapping.put("double", "Double");
-        typeMapping.put("object", "JSONValue");
-        typeMapping.put("file", "URL");
-        typeMapping.put("binary", "Data");
-        typeMapping.put("ByteArray", "Data");
-        typeMapping.put("UUID", "UUID");
+        languageSpecificPrimitives = new HashSet<>(LANGUAGE_SPECIFIC_PRIMITIVES);
+        defaultIncludes = new HashSet<>(DEFAULT_INCLUDES);
+        setReservedWords(RESERVED_WORDS);
+
+        typeMapping = new HashMap<>(TYPE_MAPPING);
 
         importMapping = new HashMap<>();
 
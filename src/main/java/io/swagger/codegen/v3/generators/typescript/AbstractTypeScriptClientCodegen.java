@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -48,6 +49,12 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
     public AbstractTypeScriptClientCodegen() {
         super();
 
+        // remove ', " to avoid code injection
+        quotationMarkEscaper = new TextEscaper().removeCharacter('"').removeCharacter('\'');
+        unsafeCharactersEscaper = new TextEscaper()
+                .addSequenceReplacement("*/", "*_/")
+                .addSequenceReplacement("/*", "/_*");
+
         // clear import mapping (from default generator) as TS does not use it
         // at the moment
         importMapping.clear();
@@ -457,17 +464,6 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
         return supportsES6;
     }
 
-    @Override
-    public String escapeQuotationMark(String input) {
-        // remove ', " to avoid code injection
-        return input.replace("\"", "").replace("'", "");
-    }
-
-    @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
-    }
-
     @Override
     public ISchemaHandler getSchemaHandler() {
         return new TypeScriptSchemaHandler(this);
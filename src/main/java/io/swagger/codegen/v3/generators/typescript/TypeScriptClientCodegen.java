@@ -252,6 +252,7 @@ public class TypeScriptClientCodegen extends AbstractTypeScriptClientCodegen {
 
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
+        processedModels = super.postProcessAllModels(processedModels);
         for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
             final Map<String, Object> inner = (Map<String, Object>) entry.getValue();
             final List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
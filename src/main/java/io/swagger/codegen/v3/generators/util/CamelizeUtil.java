@@ -0,0 +1,287 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Char-scanning implementation of {@code DefaultCodegenConfig.camelize}.
+ *
+ * The result is identical to the original regex based implementation (kept as {@link #legacyCamelize(String, boolean)}),
+ * which is still used for the few inputs where the regex replacement semantics matter: line terminators, more than
+ * 100 separators of the same kind, and '$' or '\' characters in positions where they were handled as replacement
+ * group references.
+ */
+public class CamelizeUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamelizeUtil.class);
+
+    private static final Pattern SLASH_PATTERN = Pattern.compile("\\/(.?)");
+    private static final Pattern CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+    private static final Pattern HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+
+    private static final int MAX_REPLACEMENTS = 100;
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private static final Map<String, String> CAMELIZE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, String> LOWER_CAMELIZE_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Camelize the given word, memoizing the result.
+     *
+     * @param word string to be camelized
+     * @param lowercaseFirstLetter lower case for first letter if set to true
+     * @return camelized string
+     */
+    public static String camelize(String word, boolean lowercaseFirstLetter) {
+        final Map<String, String> cache = lowercaseFirstLetter ? LOWER_CAMELIZE_CACHE : CAMELIZE_CACHE;
+        String camelized = cache.get(word);
+        if (camelized != null) {
+            return camelized;
+        }
+        camelized = scanCamelize(word, lowercaseFirstLetter);
+        if (camelized == null) {
+            camelized = legacyCamelize(word, lowercaseFirstLetter);
+        }
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(word, camelized);
+        return camelized;
+    }
+
+    /**
+     * Drop all memoized values, usually at the beginning of a new generation.
+     */
+    public static void clearCache() {
+        CAMELIZE_CACHE.clear();
+        LOWER_CAMELIZE_CACHE.clear();
+    }
+
+    /**
+     * @return null if the word must be handled by the regex implementation
+     */
+    static String scanCamelize(String word, boolean lowercaseFirstLetter) {
+        final int length = word.length();
+        int slashes = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (isLineTerminator(c)) {
+                return null;
+            }
+            if (c == '/') {
+                if (++slashes > MAX_REPLACEMENTS) {
+                    return null;
+                }
+                if (i + 1 < length && isReplacementSpecial(word.charAt(i + 1))) {
+                    return null;
+                }
+            }
+        }
+
+        // slashes and dots are package separators: drop them and upper case the first letter of each part.
+        final StringBuilder builder = new StringBuilder(length);
+        boolean partStart = true;
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+                continue;
+            }
+            builder.append(partStart ? Character.toUpperCase(c) : c);
+            partStart = false;
+        }
+
+        // upper case the class name, which is the first word character left.
+        for (int i = 0; i < builder.length(); i++) {
+            if (isWordChar(builder.charAt(i))) {
+                if (builder.indexOf("\\", i + 1) >= 0) {
+                    return null;
+                }
+                builder.replace(i, i + 1, String.valueOf(builder.charAt(i)).toUpperCase());
+                break;
+            }
+        }
+
+        String camelized = removeUnderscores(builder);
+        if (camelized == null) {
+            return null;
+        }
+        camelized = removeHyphens(camelized);
+        if (camelized == null) {
+            return null;
+        }
+        if (lowercaseFirstLetter && camelized.length() > 0) {
+            camelized = camelized.substring(0, 1).toLowerCase() + camelized.substring(1);
+        }
+        return camelized;
+    }
+
+    private static String removeUnderscores(CharSequence word) {
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length);
+        int underscores = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = word.charAt(i);
+            if (c != '_' || i + 1 == length) {
+                builder.append(c);
+                i++;
+                continue;
+            }
+            if (++underscores > MAX_REPLACEMENTS) {
+                return null;
+            }
+            final int codePoint = Character.codePointAt(word, i + 1);
+            final String original = new String(Character.toChars(codePoint));
+            final String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                // only the underscore is removed, next character is scanned again.
+                i++;
+            } else {
+                builder.append(upperCase);
+                i += 1 + Character.charCount(codePoint);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String removeHyphens(String word) {
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length);
+        int hyphens = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = word.charAt(i);
+            if (c != '-' || i + 1 == length) {
+                builder.append(c);
+                i++;
+                continue;
+            }
+            if (++hyphens > MAX_REPLACEMENTS) {
+                return null;
+            }
+            final char next = word.charAt(i + 1);
+            if (isReplacementSpecial(next)) {
+                return null;
+            }
+            if (next == '-') {
+                i++;
+                continue;
+            }
+            final int codePoint = Character.codePointAt(word, i + 1);
+            builder.append(new String(Character.toChars(codePoint)).toUpperCase());
+            i += 1 + Character.charCount(codePoint);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isReplacementSpecial(char c) {
+        return c == '$' || c == '\\';
+    }
+
+    /**
+     * Original regex based implementation
+     * copied from Twitter elephant bird
+     * https://github.com/twitter/elephant-bird/blob/master/core/src/main/java/com/twitter/elephantbird/util/Strings.java
+     *
+     * @param word string to be camelized
+     * @param lowercaseFirstLetter lower case for first letter if set to true
+     * @return camelized string
+     */
+    static String legacyCamelize(String word, boolean lowercaseFirstLetter) {
+        // Replace all slashes with dots (package separator)
+        String originalWord = word;
+        LOGGER.trace("camelize start - " + originalWord);
+        Matcher m = SLASH_PATTERN.matcher(word);
+        int i = 0;
+        while (m.find()) {
+            if (i > MAX_REPLACEMENTS) {
+                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
+                break;
+            }
+            i++;
+            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/);
+            m = SLASH_PATTERN.matcher(word);
+        }
+        i = 0;
+        // case out dots
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = SLASH_PATTERN.matcher(word);
+        while (m.find()) {
+            if (i > MAX_REPLACEMENTS) {
+                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
+                break;
+            }
+            i++;
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
+            m = SLASH_PATTERN.matcher(word);
+        }
+        i = 0;
+        // Uppercase the class name.
+        m = CLASS_NAME_PATTERN.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        m = UNDERSCORE_PATTERN.matcher(word);
+        while (m.find()) {
+            if (i > MAX_REPLACEMENTS) {
+                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
+                break;
+            }
+            i++;
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = UNDERSCORE_PATTERN.matcher(word);
+        }
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        m = HYPHEN_PATTERN.matcher(word);
+        i = 0;
+        while (m.find()) {
+            if (i > MAX_REPLACEMENTS) {
+                LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
+                break;
+            }
+            i++;
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = HYPHEN_PATTERN.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+        LOGGER.trace("camelize end - {} (new: {})", originalWord, word);
+        return word;
+    }
+}
@@ -0,0 +1,202 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single pass implementations of the case conversions used to build file, variable, operation and enum names.
+ *
+ * {@link #underscore(String)} gives the same result as the original regex based implementation of
+ * {@code DefaultCodegenConfig.underscore} (kept as {@link #legacyUnderscore(String)}): the regex character classes are
+ * ASCII only, so word boundaries are found by looking at the previous and next characters, and the final lower casing
+ * is still done with {@link String#toLowerCase()} when the word contains non ASCII characters or the default locale
+ * has specific casing rules. Results are memoized in bounded caches shared by all generators.
+ */
+public class CaseFormatUtil {
+
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private static final Map<String, String> UNDERSCORE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, String> DASHIZE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, String> SCREAMING_SNAKE_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Underscore the given word, e.g. "MyHTTPRequest" becomes "my_http_request", "io.swagger.Api$Inner" becomes
+     * "io/swagger/api__inner".
+     *
+     * @param word the word
+     * @return the underscored version of the word
+     */
+    public static String underscore(String word) {
+        return cached(UNDERSCORE_CACHE, word, '_', false);
+    }
+
+    /**
+     * Dashize the given word, i.e. underscore it and replace underscores with dashes, e.g. "MyName" becomes "my-name".
+     *
+     * @param word the word
+     * @return the dashized version of the word
+     */
+    public static String dashize(String word) {
+        return cached(DASHIZE_CACHE, word, '-', false);
+    }
+
+    /**
+     * @param word the word
+     * @return the snake_case version of the word, same as {@link #underscore(String)}
+     */
+    public static String snakeCase(String word) {
+        return underscore(word);
+    }
+
+    /**
+     * @param word the word
+     * @return the kebab-case version of the word, same as {@link #dashize(String)}
+     */
+    public static String kebabCase(String word) {
+        return dashize(word);
+    }
+
+    /**
+     * @param word the word
+     * @return the SCREAMING_SNAKE_CASE version of the word, same as {@code underscore(word).toUpperCase()}
+     */
+    public static String screamingSnakeCase(String word) {
+        return cached(SCREAMING_SNAKE_CACHE, word, '_', true);
+    }
+
+    /**
+     * @param word the word
+     * @return the camelCase version of the word, see {@link CamelizeUtil#camelize(String, boolean)}
+     */
+    public static String camelCase(String word) {
+        return CamelizeUtil.camelize(word, true);
+    }
+
+    /**
+     * @param word the word
+     * @return the PascalCase version of the word, see {@link CamelizeUtil#camelize(String, boolean)}
+     */
+    public static String pascalCase(String word) {
+        return CamelizeUtil.camelize(word, false);
+    }
+
+    /**
+     * Drop all memoized values, usually at the beginning of a new generation.
+     */
+    public static void clearCache() {
+        UNDERSCORE_CACHE.clear();
+        DASHIZE_CACHE.clear();
+        SCREAMING_SNAKE_CACHE.clear();
+        CamelizeUtil.clearCache();
+    }
+
+    private static String cached(Map<String, String> cache, String word, char separator, boolean upperCase) {
+        String converted = cache.get(word);
+        if (converted != null) {
+            return converted;
+        }
+        converted = convert(word, separator, upperCase);
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(word, converted);
+        return converted;
+    }
+
+    static String convert(String word, char separator, boolean upperCase) {
+        final int length = word.length();
+        final boolean asciiCasing = hasAsciiCasing(Locale.getDefault());
+        final StringBuilder builder = new StringBuilder(length + 8);
+        boolean ascii = true;
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (isUpper(c) && i > 0) {
+                final char previous = word.charAt(i - 1);
+                // "([a-z\d])([A-Z])" and "([A-Z]+)([A-Z][a-z])": word boundary before the last capital of an acronym
+                if (isLower(previous) || isDigit(previous)
+                        || (isUpper(previous) && i + 1 < length && isLower(word.charAt(i + 1)))) {
+                    builder.append(separator);
+                }
+            }
+            switch (c) {
+                case '.':
+                    builder.append('/');
+                    break;
+                case '$':
+                    builder.append(separator).append(separator);
+                    break;
+                case '-':
+                case ' ':
+                case '_':
+                    builder.append(separator);
+                    break;
+                default:
+                    if (c >= 0x80) {
+                        ascii = false;
+                        builder.append(c);
+                    } else if (asciiCasing && isUpper(c)) {
+                        builder.append((char) (c + ('a' - 'A')));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        String converted = builder.toString();
+        if (!ascii || !asciiCasing) {
+            converted = converted.toLowerCase();
+        }
+        if (upperCase) {
+            converted = converted.toUpperCase();
+        }
+        return converted;
+    }
+
+    private static boolean hasAsciiCasing(Locale locale) {
+        final String language = locale.getLanguage();
+        return !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language);
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Original regex based implementation
+     * copied from Twitter elephant bird
+     * https://github.com/twitter/elephant-bird/blob/master/core/src/main/java/com/twitter/elephantbird/util/Strings.java
+     *
+     * @param word the word
+     * @return the underscored version of the word
+     */
+    static String legacyUnderscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        // Replace package separator with slash.
+        word = word.replaceAll("\\.", "/");
+        // Replace $ with two underscores for inner classes.
+        word = word.replaceAll("\\$", "__");
+        // Replace capital letter with _ plus lowercase letter.
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        // replace space with underscore
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    static String legacyDashize(String word) {
+        return legacyUnderscore(word).replaceAll("[_ ]", "-");
+    }
+}
@@ -0,0 +1,200 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Least recently used cache of compiled templates, keyed by template engine, template path and content hash, so that
+ * templates (and partials) are compiled once per process instead of once per generation.
+ *
+ * The engine key must identify everything the compiled template depends on besides its content, e.g. helpers and
+ * partial resolution. A template whose content changed is compiled again.
+ */
+public class CompiledTemplateCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledTemplateCache.class);
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final CompiledTemplateCache SHARED = new CompiledTemplateCache(
+            Integer.getInteger("swagger.codegen.templateCacheSize", DEFAULT_MAXIMUM_SIZE));
+
+    private final Map<Key, Object> templates = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maximumSize;
+
+    @FunctionalInterface
+    public interface Compiler<T> {
+        T compile(String content) throws IOException;
+    }
+
+    public CompiledTemplateCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return cache shared by all the generations of the process, sized by the swagger.codegen.templateCacheSize
+     * system property
+     */
+    public static CompiledTemplateCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * @param engine template engine key
+     * @param path template path
+     * @param content template content
+     * @param compiler compiles the template content, called outside of the cache lock
+     * @return compiled template, from the cache if the template was already compiled with the same content
+     * @throws IOException if the template can't be compiled
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String engine, String path, String content, Compiler<T> compiler) throws IOException {
+        final Key key = new Key(engine, path, digest(content));
+        synchronized (templates) {
+            final Object template = templates.get(key);
+            if (template != null) {
+                hits.increment();
+                return (T) template;
+            }
+        }
+        misses.increment();
+        final T template = compiler.compile(content);
+        if (template != null) {
+            synchronized (templates) {
+                templates.put(key, template);
+                trimTo(maximumSize);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Drop the compiled templates of the given engine.
+     */
+    public void evict(String engine) {
+        synchronized (templates) {
+            templates.keySet().removeIf(key -> key.engine.equals(engine));
+        }
+    }
+
+    /**
+     * Drop the compiled templates of the given path, whatever their content.
+     */
+    public void evict(String engine, String path) {
+        synchronized (templates) {
+            templates.keySet().removeIf(key -> key.engine.equals(engine) && key.path.equals(path));
+        }
+    }
+
+    /**
+     * Drop all compiled templates and reset the statistics.
+     */
+    public void clear() {
+        if (LOGGER.isDebugEnabled() && getRequestCount() > 0) {
+            LOGGER.debug("compiled template cache: {} hits, {} misses, {} evictions", getHitCount(), getMissCount(),
+                    getEvictionCount());
+        }
+        synchronized (templates) {
+            templates.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        synchronized (templates) {
+            trimTo(maximumSize);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getRequestCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    private void trimTo(int size) {
+        final Iterator<Key> iterator = templates.keySet().iterator();
+        while (templates.size() > Math.max(size, 0) && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static byte[] digest(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Key {
+
+        private final String engine;
+        private final String path;
+        private final byte[] digest;
+        private final int hashCode;
+
+        Key(String engine, String path, byte[] digest) {
+            this.engine = engine;
+            this.path = path;
+            this.digest = digest;
+            this.hashCode = Objects.hash(engine, path, Arrays.hashCode(digest));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return engine.equals(key.engine) && path.equals(key.path) && Arrays.equals(digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single pass, table driven name sanitizer.
+ *
+ * Each registered sequence is replaced by its replacement, then every character other than word characters (and
+ * allowed characters) is removed, or replaced by the non word replacement if one is set (a run of consecutive
+ * characters being replaced only once). When several sequences match at the same position, the first registered one
+ * wins, which gives the same result as applying one {@code replaceAll} per sequence in registration order.
+ *
+ * Instances are configured once (usually in a codegen constructor) and are then safe for concurrent use.
+ */
+public class NameSanitizer {
+
+    private static final int ASCII_TABLE_SIZE = 128;
+
+    @SuppressWarnings("unchecked")
+    private final List<String[]>[] asciiReplacements = new List[ASCII_TABLE_SIZE];
+    private final Map<Character, List<String[]>> replacements = new HashMap<>();
+    private final boolean[] asciiAllowed = new boolean[ASCII_TABLE_SIZE];
+    private String nonWordReplacement;
+
+    public NameSanitizer() {
+    }
+
+    /**
+     * Copy the mappings of the given sanitizer, so that new ones can be registered without affecting it.
+     *
+     * @param sanitizer sanitizer to copy
+     */
+    public NameSanitizer(NameSanitizer sanitizer) {
+        for (int i = 0; i < ASCII_TABLE_SIZE; i++) {
+            if (sanitizer.asciiReplacements[i] != null) {
+                asciiReplacements[i] = new ArrayList<>(sanitizer.asciiReplacements[i]);
+            }
+        }
+        for (Map.Entry<Character, List<String[]>> entry : sanitizer.replacements.entrySet()) {
+            replacements.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        System.arraycopy(sanitizer.asciiAllowed, 0, asciiAllowed, 0, ASCII_TABLE_SIZE);
+        nonWordReplacement = sanitizer.nonWordReplacement;
+    }
+
+    /**
+     * Sanitizer matching {@code DefaultCodegenConfig.sanitizeName}:
+     * input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b, input.name => input_name,
+     * input-name => input_name, input name => input_name, $php_variable => php_variable
+     *
+     * @return a new sanitizer with default mappings
+     */
+    public static NameSanitizer createDefault() {
+        return new NameSanitizer()
+                .addReplacement("[]", "")
+                .addReplacement("[", "_")
+                .addReplacement("]", "")
+                .addReplacement("(", "_")
+                .addReplacement(")", "")
+                .addReplacement(".", "_")
+                .addReplacement("-", "_")
+                .addReplacement(" ", "_");
+    }
+
+    /**
+     * Register a replacement for the given sequence. Sequences are matched against the original name only.
+     *
+     * @param sequence sequence to be replaced, not empty
+     * @param replacement replacement, non word characters of it are removed as well
+     * @return this sanitizer
+     */
+    public NameSanitizer addReplacement(String sequence, String replacement) {
+        if (sequence == null || sequence.isEmpty()) {
+            throw new IllegalArgumentException("sequence to be replaced must not be empty");
+        }
+        final char first = sequence.charAt(0);
+        final String[] mapping = new String[]{sequence, replacement == null ? "" : replacement};
+        if (first < ASCII_TABLE_SIZE) {
+            if (asciiReplacements[first] == null) {
+                asciiReplacements[first] = new ArrayList<>();
+            }
+            asciiReplacements[first].add(mapping);
+        } else {
+            replacements.computeIfAbsent(first, c -> new ArrayList<>()).add(mapping);
+        }
+        return this;
+    }
+
+    /**
+     * Keep the given (ascii) non word character.
+     *
+     * @param character character to keep, e.g. '$'
+     * @return this sanitizer
+     */
+    public NameSanitizer addAllowedCharacter(char character) {
+        if (character >= ASCII_TABLE_SIZE) {
+            throw new IllegalArgumentException("only ascii characters can be allowed: " + character);
+        }
+        asciiAllowed[character] = true;
+        return this;
+    }
+
+    /**
+     * Replace runs of non word characters by the given string instead of removing them.
+     *
+     * @param replacement replacement of non word characters, null to remove them
+     * @return this sanitizer
+     */
+    public NameSanitizer setNonWordReplacement(String replacement) {
+        this.nonWordReplacement = replacement;
+        return this;
+    }
+
+    /**
+     * Sanitize the given name.
+     *
+     * @param name name to be sanitized, not null
+     * @param allowUnicode keep unicode word characters (as {@code \w} with {@code UNICODE_CHARACTER_CLASS}),
+     * otherwise only [a-zA-Z0-9_] are kept
+     * @return sanitized name
+     */
+    public String sanitize(String name, boolean allowUnicode) {
+        if (allowUnicode && hasUnpairedSurrogate(name)) {
+            // replacements may join unpaired surrogates into a (word) code point: replace first, then filter.
+            final StringBuilder builder = new StringBuilder(name.length());
+            append(builder, replace(name), true, false);
+            return builder.toString();
+        }
+        final int length = name.length();
+        final StringBuilder builder = new StringBuilder(length);
+        boolean inNonWordRun = false;
+        int i = 0;
+        while (i < length) {
+            final String[] mapping = findReplacement(name, i);
+            if (mapping != null) {
+                inNonWordRun = append(builder, mapping[1], allowUnicode, inNonWordRun);
+                i += mapping[0].length();
+                continue;
+            }
+            final int codePoint = Character.codePointAt(name, i);
+            final int charCount = Character.charCount(codePoint);
+            if (isKept(codePoint, allowUnicode)) {
+                builder.append(name, i, i + charCount);
+                inNonWordRun = false;
+            } else {
+                inNonWordRun = appendNonWord(builder, inNonWordRun);
+            }
+            i += charCount;
+        }
+        return builder.toString();
+    }
+
+    private String replace(String name) {
+        final StringBuilder builder = new StringBuilder(name.length());
+        int i = 0;
+        while (i < name.length()) {
+            final String[] mapping = findReplacement(name, i);
+            if (mapping != null) {
+                builder.append(mapping[1]);
+                i += mapping[0].length();
+            } else {
+                builder.append(name.charAt(i++));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean hasUnpairedSurrogate(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < name.length() && Character.isLowSurrogate(name.charAt(i + 1))) {
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String[] findReplacement(String name, int index) {
+        final char c = name.charAt(index);
+        final List<String[]> candidates = c < ASCII_TABLE_SIZE ? asciiReplacements[c] : replacements.get(c);
+        if (candidates == null) {
+            return null;
+        }
+        for (String[] candidate : candidates) {
+            if (name.startsWith(candidate[0], index)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean append(StringBuilder builder, String replacement, boolean allowUnicode, boolean inNonWordRun) {
+        int i = 0;
+        while (i < replacement.length()) {
+            final int codePoint = Character.codePointAt(replacement, i);
+            final int charCount = Character.charCount(codePoint);
+            if (isKept(codePoint, allowUnicode)) {
+                builder.append(replacement, i, i + charCount);
+                inNonWordRun = false;
+            } else {
+                inNonWordRun = appendNonWord(builder, inNonWordRun);
+            }
+            i += charCount;
+        }
+        return inNonWordRun;
+    }
+
+    private boolean appendNonWord(StringBuilder builder, boolean inNonWordRun) {
+        if (nonWordReplacement == null) {
+            return inNonWordRun;
+        }
+        if (!inNonWordRun) {
+            builder.append(nonWordReplacement);
+        }
+        return true;
+    }
+
+    private boolean isKept(int codePoint, boolean allowUnicode) {
+        if (codePoint < ASCII_TABLE_SIZE) {
+            return asciiAllowed[codePoint] || isAsciiWordChar(codePoint);
+        }
+        return allowUnicode && isUnicodeWordChar(codePoint);
+    }
+
+    private static boolean isAsciiWordChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Same definition as {@code \w} with {@code Pattern.UNICODE_CHARACTER_CLASS}.
+     */
+    static boolean isUnicodeWordChar(int codePoint) {
+        if (Character.isAlphabetic(codePoint) || Character.isDigit(codePoint)) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                return codePoint == 0x200C || codePoint == 0x200D;
+        }
+    }
+}
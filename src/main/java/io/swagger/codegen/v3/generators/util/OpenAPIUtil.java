@@ -18,7 +18,14 @@ public class OpenAPIUtil {
         if (allSchemas == null || allSchemas.isEmpty()) {
             return;
         }
-        final Schema schema = allSchemas.get(getSimpleRef(refSchema.get$ref()));
+        addPropertiesFromSchema(allSchemas.get(getSimpleRef(refSchema.get$ref())), codegenProperty);
+    }
+
+    public static void addPropertiesFromRef(RefIndex refIndex, Schema refSchema, CodegenProperty codegenProperty) {
+        addPropertiesFromSchema(refIndex.getSchemaFromRefSchema(refSchema), codegenProperty);
+    }
+
+    private static void addPropertiesFromSchema(Schema schema, CodegenProperty codegenProperty) {
         if (schema == null) {
             return;
         }
@@ -59,6 +66,14 @@ public class OpenAPIUtil {
         return getSchemaFromName(name, openAPI);
     }
 
+    public static Schema getSchemaFromRefSchema(Schema refSchema, RefIndex refIndex) {
+        return refIndex.getSchemaFromRefSchema(refSchema);
+    }
+
+    public static Schema getPropertyFromAllOfSchema(String propertyName, List<Schema> schemas, RefIndex refIndex) {
+        return refIndex.getAllOfProperty(propertyName, schemas);
+    }
+
     public static Schema getPropertyFromAllOfSchema(String propertyName, List<Schema> schemas, OpenAPI openAPI) {
         for (Schema schema : schemas) {
             if (StringUtils.isNotBlank(schema.get$ref())) {
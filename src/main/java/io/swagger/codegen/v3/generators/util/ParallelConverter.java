@@ -0,0 +1,50 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs independent conversions (schema to model, operation to codegen operation) on a dedicated fork join pool,
+ * keeping the results in input order so the generated output does not depend on scheduling.
+ */
+public class ParallelConverter {
+
+    /**
+     * Convert all inputs.
+     *
+     * @param inputs inputs to convert
+     * @param converter conversion function, must be safe for concurrent calls when parallelism is above 1
+     * @param parallelism number of worker threads, values below 2 convert sequentially in the calling thread
+     * @return converted values, in the same order as the inputs
+     */
+    public static <T, R> List<R> convert(List<T> inputs, Function<T, R> converter, int parallelism) {
+        if (parallelism < 2 || inputs.size() < 2) {
+            final List<R> results = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                results.add(converter.apply(input));
+            }
+            return results;
+        }
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, inputs.size()));
+        try {
+            return pool.submit(() -> inputs.parallelStream()
+                    .map(converter)
+                    .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Conversion interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
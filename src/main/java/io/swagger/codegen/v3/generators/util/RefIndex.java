@@ -0,0 +1,215 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * $ref resolution index of an OpenAPI document, built once per document.
+ *
+ * Full refs ("#/components/schemas/Pet") are mapped to the components they point to, lookups by other refs fall
+ * back to the previous name based resolution (last ref segment), so results are the same as resolving refs with
+ * {@link OpenAPIUtil#getSimpleRef(String)} and the components maps.
+ */
+public class RefIndex {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+    private static final String SCHEMAS_PREFIX = COMPONENTS_PREFIX + "schemas/";
+    private static final String PARAMETERS_PREFIX = COMPONENTS_PREFIX + "parameters/";
+    private static final String RESPONSES_PREFIX = COMPONENTS_PREFIX + "responses/";
+    private static final String REQUEST_BODIES_PREFIX = COMPONENTS_PREFIX + "requestBodies/";
+    private static final String HEADERS_PREFIX = COMPONENTS_PREFIX + "headers/";
+
+    private final OpenAPI openAPI;
+    private final Map<String, Schema> schemas;
+    private final Map<String, Parameter> parameters;
+    private final Map<String, ApiResponse> responses;
+    private final Map<String, RequestBody> requestBodies;
+    private final Map<String, Header> headers;
+
+    private final Map<String, Schema> schemaRefs;
+    private final Map<String, Parameter> parameterRefs;
+    private final Map<String, ApiResponse> responseRefs;
+    private final Map<String, RequestBody> requestBodyRefs;
+    private final Map<String, Header> headerRefs;
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final Map<List<Schema>, Map<String, Schema>> allOfProperties = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public RefIndex(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        final Components components = openAPI == null ? null : openAPI.getComponents();
+        this.schemas = components == null ? null : components.getSchemas();
+        this.parameters = components == null ? null : components.getParameters();
+        this.responses = components == null ? null : components.getResponses();
+        this.requestBodies = components == null ? null : components.getRequestBodies();
+        this.headers = components == null ? null : components.getHeaders();
+
+        this.schemaRefs = index(SCHEMAS_PREFIX, schemas);
+        this.parameterRefs = index(PARAMETERS_PREFIX, parameters);
+        this.responseRefs = index(RESPONSES_PREFIX, responses);
+        this.requestBodyRefs = index(REQUEST_BODIES_PREFIX, requestBodies);
+        this.headerRefs = index(HEADERS_PREFIX, headers);
+    }
+
+    private static <T> Map<String, T> index(String prefix, Map<String, T> components) {
+        if (components == null || components.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, T> refs = new HashMap<>(components.size() * 2);
+        for (Map.Entry<String, T> entry : components.entrySet()) {
+            refs.put(prefix + entry.getKey(), entry.getValue());
+        }
+        return refs;
+    }
+
+    /**
+     * @return the indexed document
+     */
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    /**
+     * Same as {@link OpenAPIUtil#getSimpleRef(String)}, memoized.
+     *
+     * @param ref $ref value
+     * @return component name for local component refs, the given ref otherwise
+     */
+    public String getSimpleRef(String ref) {
+        if (!ref.startsWith(COMPONENTS_PREFIX)) {
+            return ref;
+        }
+        return getName(ref);
+    }
+
+    /**
+     * @param ref $ref value
+     * @return last segment of the ref
+     */
+    public String getName(String ref) {
+        return names.computeIfAbsent(ref, r -> r.substring(r.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * @param ref $ref value (or schema name)
+     * @return referenced schema, null if not found
+     */
+    public Schema getSchema(String ref) {
+        if (StringUtils.isBlank(ref)) {
+            return null;
+        }
+        final Schema schema = schemaRefs.get(ref);
+        if (schema != null || schemas == null) {
+            return schema;
+        }
+        return schemas.get(getSimpleRef(ref));
+    }
+
+    /**
+     * Resolves a ref in a schemas map given by a caller: through the index when it is the schemas of the indexed
+     * document, by name otherwise (e.g. the definitions given to fromModel by a test or a subclass).
+     *
+     * @param ref $ref value (or schema name)
+     * @param schemas schemas the ref points to
+     * @return referenced schema, null if not found or if there are no schemas
+     */
+    public Schema getSchema(String ref, Map<String, Schema> schemas) {
+        if (schemas == null) {
+            return null;
+        }
+        if (schemas == this.schemas) {
+            return getSchema(ref);
+        }
+        return StringUtils.isBlank(ref) ? null : schemas.get(getSimpleRef(ref));
+    }
+
+    /**
+     * @param refSchema schema holding a $ref
+     * @return referenced schema, null if the schema has no ref or the ref is not found
+     */
+    public Schema getSchemaFromRefSchema(Schema refSchema) {
+        return getSchema(refSchema.get$ref());
+    }
+
+    public Parameter getParameter(String ref) {
+        final Parameter parameter = parameterRefs.get(ref);
+        if (parameter != null || parameters == null) {
+            return parameter;
+        }
+        return parameters.get(getName(ref));
+    }
+
+    public ApiResponse getResponse(String ref) {
+        final ApiResponse response = responseRefs.get(ref);
+        if (response != null || responses == null) {
+            return response;
+        }
+        return responses.get(getSimpleRef(ref));
+    }
+
+    public RequestBody getRequestBody(String ref) {
+        final RequestBody requestBody = requestBodyRefs.get(ref);
+        if (requestBody != null || requestBodies == null) {
+            return requestBody;
+        }
+        return requestBodies.get(getSimpleRef(ref));
+    }
+
+    public Header getHeader(String ref) {
+        final Header header = headerRefs.get(ref);
+        if (header != null || headers == null) {
+            return header;
+        }
+        return headers.get(getSimpleRef(ref));
+    }
+
+    /**
+     * Property of an allOf composition: the first member (resolving refs) defining it wins. Members properties are
+     * flattened once per allOf list.
+     *
+     * @param propertyName name of the property
+     * @param allOf allOf members
+     * @return property schema, null if no member defines it
+     */
+    public Schema getAllOfProperty(String propertyName, List<Schema> allOf) {
+        Map<String, Schema> properties = allOfProperties.get(allOf);
+        if (properties == null) {
+            properties = flattenProperties(allOf);
+            allOfProperties.put(allOf, properties);
+        }
+        return properties.get(propertyName);
+    }
+
+    private Map<String, Schema> flattenProperties(List<Schema> allOf) {
+        final Map<String, Schema> properties = new LinkedHashMap<>();
+        for (Schema schema : allOf) {
+            if (StringUtils.isNotBlank(schema.get$ref())) {
+                schema = getSchemaFromRefSchema(schema);
+            }
+            if (schema == null || schema.getProperties() == null) {
+                continue;
+            }
+            final Map<String, Schema> schemaProperties = schema.getProperties();
+            for (Map.Entry<String, Schema> property : schemaProperties.entrySet()) {
+                if (!properties.containsKey(property.getKey())) {
+                    properties.put(property.getKey(), property.getValue());
+                }
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,326 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependencies between the schemas of the components of an OpenAPI document, built once per document.
+ *
+ * A dependency is recorded for each $ref to a component schema found in a schema (including its inline properties,
+ * items and compositions), typed by where the ref was found: properties and other nested schemas, allOf members
+ * (parents), oneOf/anyOf members (interfaces) and array items or map values.
+ */
+public class SchemaDependencyGraph {
+
+    public enum DependencyType {
+        /** $ref of the schema itself, of a property or of another nested schema, or discriminator mapping */
+        REFERENCE,
+        /** allOf member */
+        PARENT,
+        /** oneOf or anyOf member */
+        INTERFACE,
+        /** items of an array or values of a map */
+        ITEMS
+    }
+
+    private final RefIndex refIndex;
+    private final Map<String, Schema> schemas;
+    private final Map<String, Map<DependencyType, Set<String>>> dependencies = new HashMap<>();
+    private final Map<String, Map<DependencyType, Set<String>>> dependents = new HashMap<>();
+
+    public SchemaDependencyGraph(OpenAPI openAPI) {
+        this(new RefIndex(openAPI));
+    }
+
+    public SchemaDependencyGraph(RefIndex refIndex) {
+        this.refIndex = refIndex;
+        final OpenAPI openAPI = refIndex.getOpenAPI();
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            this.schemas = Collections.emptyMap();
+            return;
+        }
+        this.schemas = openAPI.getComponents().getSchemas();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            addSchema(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @return names of the schemas of the graph
+     */
+    public Set<String> getSchemaNames() {
+        return Collections.unmodifiableSet(schemas.keySet());
+    }
+
+    /**
+     * @param name schema name
+     * @return names of the schemas the given schema directly depends on
+     */
+    public Set<String> getDependencies(String name) {
+        return union(dependencies.get(name));
+    }
+
+    /**
+     * @param name schema name
+     * @param type dependency type
+     * @return names of the schemas the given schema directly depends on with the given type
+     */
+    public Set<String> getDependencies(String name, DependencyType type) {
+        return get(dependencies.get(name), type);
+    }
+
+    /**
+     * @param name schema name
+     * @return names of the schemas directly depending on the given schema
+     */
+    public Set<String> getDependents(String name) {
+        return union(dependents.get(name));
+    }
+
+    /**
+     * @param name schema name
+     * @param type dependency type
+     * @return names of the schemas directly depending on the given schema with the given type, e.g. the schemas
+     * extending it for {@link DependencyType#PARENT}
+     */
+    public Set<String> getDependents(String name, DependencyType type) {
+        return get(dependents.get(name), type);
+    }
+
+    /**
+     * Schemas needed to generate the given ones: their transitive dependencies and, for schemas with a
+     * discriminator, the schemas extending them.
+     *
+     * @param names schema names
+     * @return names of the given schemas and of the schemas they need, in discovery order
+     */
+    public Set<String> getReachableSchemas(Collection<String> names) {
+        final Set<String> reachable = new LinkedHashSet<>();
+        final Deque<String> queue = new ArrayDeque<>(names);
+        while (!queue.isEmpty()) {
+            final String name = queue.pop();
+            if (!schemas.containsKey(name) || !reachable.add(name)) {
+                continue;
+            }
+            queue.addAll(getDependencies(name));
+            if (schemas.get(name).getDiscriminator() != null) {
+                queue.addAll(getDependents(name, DependencyType.PARENT));
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * @param operation operation
+     * @return names of the schemas directly used by the parameters, request body, responses and callbacks of the
+     * operation
+     */
+    public Set<String> getOperationDependencies(Operation operation) {
+        final Set<String> names = new LinkedHashSet<>();
+        addOperation(operation, names, newIdentitySet());
+        return names;
+    }
+
+    /**
+     * @param parameters parameters, e.g. of a path item
+     * @return names of the schemas directly used by the parameters
+     */
+    public Set<String> getParameterDependencies(List<Parameter> parameters) {
+        final Set<String> names = new LinkedHashSet<>();
+        addParameters(parameters, names);
+        return names;
+    }
+
+    public RefIndex getRefIndex() {
+        return refIndex;
+    }
+
+    private void addPathItem(PathItem pathItem, Set<String> names, Set<Object> visited) {
+        if (pathItem == null || !visited.add(pathItem)) {
+            return;
+        }
+        addParameters(pathItem.getParameters(), names);
+        for (Operation operation : pathItem.readOperations()) {
+            addOperation(operation, names, visited);
+        }
+    }
+
+    private void addOperation(Operation operation, Set<String> names, Set<Object> visited) {
+        if (operation == null || !visited.add(operation)) {
+            return;
+        }
+        addParameters(operation.getParameters(), names);
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null) {
+            requestBody = refIndex.getRequestBody(requestBody.get$ref());
+        }
+        if (requestBody != null) {
+            addContent(requestBody.getContent(), names);
+        }
+        if (operation.getResponses() != null) {
+            for (ApiResponse response : operation.getResponses().values()) {
+                if (response != null && response.get$ref() != null) {
+                    response = refIndex.getResponse(response.get$ref());
+                }
+                if (response == null) {
+                    continue;
+                }
+                addContent(response.getContent(), names);
+                if (response.getHeaders() != null) {
+                    for (Header header : response.getHeaders().values()) {
+                        addRootSchema(header.getSchema(), names);
+                        addContent(header.getContent(), names);
+                    }
+                }
+            }
+        }
+        if (operation.getCallbacks() != null) {
+            for (Callback callback : operation.getCallbacks().values()) {
+                if (callback == null) {
+                    continue;
+                }
+                for (PathItem pathItem : callback.values()) {
+                    addPathItem(pathItem, names, visited);
+                }
+            }
+        }
+    }
+
+    private void addParameters(List<Parameter> parameters, Set<String> names) {
+        if (parameters == null) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            if (parameter != null && parameter.get$ref() != null) {
+                parameter = refIndex.getParameter(parameter.get$ref());
+            }
+            if (parameter != null) {
+                addRootSchema(parameter.getSchema(), names);
+                addContent(parameter.getContent(), names);
+            }
+        }
+    }
+
+    private void addContent(Content content, Set<String> names) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (mediaType != null) {
+                addRootSchema(mediaType.getSchema(), names);
+            }
+        }
+    }
+
+    private void addRootSchema(Schema schema, Set<String> names) {
+        final Map<DependencyType, Set<String>> found = new EnumMap<>(DependencyType.class);
+        collect(schema, DependencyType.REFERENCE, found, newIdentitySet());
+        names.addAll(union(found));
+    }
+
+    private void addSchema(String name, Schema schema) {
+        final Map<DependencyType, Set<String>> found = dependencies.computeIfAbsent(name, n -> new EnumMap<>(DependencyType.class));
+        collect(schema, DependencyType.REFERENCE, found, newIdentitySet());
+        for (Map.Entry<DependencyType, Set<String>> entry : found.entrySet()) {
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, n -> new EnumMap<>(DependencyType.class))
+                        .computeIfAbsent(entry.getKey(), t -> new LinkedHashSet<>()).add(name);
+            }
+        }
+    }
+
+    private void collect(Schema schema, DependencyType type, Map<DependencyType, Set<String>> found, Set<Schema> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            addDependency(schema.get$ref(), type, found);
+            return;
+        }
+        if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+            for (String mapping : schema.getDiscriminator().getMapping().values()) {
+                addDependency(mapping, DependencyType.REFERENCE, found);
+            }
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composed = (ComposedSchema) schema;
+            collectAll(composed.getAllOf(), DependencyType.PARENT, found, visited);
+            collectAll(composed.getOneOf(), DependencyType.INTERFACE, found, visited);
+            collectAll(composed.getAnyOf(), DependencyType.INTERFACE, found, visited);
+        }
+        if (schema instanceof ArraySchema) {
+            collect(((ArraySchema) schema).getItems(), DependencyType.ITEMS, found, visited);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collect((Schema) schema.getAdditionalProperties(), DependencyType.ITEMS, found, visited);
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                collect((Schema) property, DependencyType.REFERENCE, found, visited);
+            }
+        }
+        collect(schema.getNot(), DependencyType.REFERENCE, found, visited);
+    }
+
+    private void collectAll(List<Schema> members, DependencyType type, Map<DependencyType, Set<String>> found, Set<Schema> visited) {
+        if (members == null) {
+            return;
+        }
+        for (Schema member : members) {
+            // only refs are parents or interfaces, inline members are part of the composed schema
+            collect(member, member != null && member.get$ref() != null ? type : DependencyType.REFERENCE, found, visited);
+        }
+    }
+
+    private void addDependency(String ref, DependencyType type, Map<DependencyType, Set<String>> found) {
+        final String name = refIndex.getSimpleRef(ref);
+        if (schemas.containsKey(name)) {
+            found.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(name);
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Set<String> get(Map<DependencyType, Set<String>> byType, DependencyType type) {
+        if (byType == null || !byType.containsKey(type)) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(byType.get(type));
+    }
+
+    private static Set<String> union(Map<DependencyType, Set<String>> byType) {
+        if (byType == null || byType.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> names = new LinkedHashSet<>();
+        for (Set<String> typed : byType.values()) {
+            names.addAll(typed);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,105 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Schema instance (identity) keyed cache of resolved schema types and type declarations, for a single generation.
+ *
+ * Only schemas without nested schemas are cached: container schemas (array items, map values) are temporarily
+ * modified during conversion, so their type is always resolved again.
+ */
+public class SchemaTypeCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaTypeCache.class);
+
+    private static final int MAX_CACHE_SIZE = 50000;
+    private static final String NULL_VALUE = new String("null");
+
+    private final Map<Schema, String> schemaTypes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<Schema, String> typeDeclarations = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param schema schema
+     * @return true if the type of the given schema only depends on the schema itself
+     */
+    public static boolean isCacheable(Schema schema) {
+        return schema != null
+                && !(schema instanceof ArraySchema)
+                && !(schema instanceof MapSchema)
+                && !(schema instanceof ComposedSchema)
+                && !(schema.getAdditionalProperties() instanceof Schema);
+    }
+
+    public String getSchemaType(Schema schema, Function<Schema, String> resolver) {
+        return get(schemaTypes, schema, resolver);
+    }
+
+    public String getTypeDeclaration(Schema schema, Function<Schema, String> resolver) {
+        return get(typeDeclarations, schema, resolver);
+    }
+
+    private String get(Map<Schema, String> cache, Schema schema, Function<Schema, String> resolver) {
+        if (!isCacheable(schema)) {
+            return resolver.apply(schema);
+        }
+        final String cached = cache.get(schema);
+        if (cached != null) {
+            hits.increment();
+            return cached == NULL_VALUE ? null : cached;
+        }
+        misses.increment();
+        final String resolved = resolver.apply(schema);
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(schema, resolved == null ? NULL_VALUE : resolved);
+        return resolved;
+    }
+
+    /**
+     * Drop all cached values and reset the statistics, usually at the beginning of a new generation.
+     */
+    public void clear() {
+        if (LOGGER.isDebugEnabled() && getRequestCount() > 0) {
+            LOGGER.debug("schema type cache: {} hits, {} misses ({}% hit ratio)", getHitCount(), getMissCount(),
+                    Math.round(getHitRatio() * 100));
+        }
+        schemaTypes.clear();
+        typeDeclarations.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getRequestCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    /**
+     * @return ratio of cached lookups, between 0 and 1
+     */
+    public double getHitRatio() {
+        final long requests = getRequestCount();
+        return requests == 0 ? 0 : (double) getHitCount() / requests;
+    }
+}
@@ -0,0 +1,192 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Templates of an embedded Handlebars template folder (e.g. handlebars/Java), packed at build time in a single
+ * {@value #BUNDLE_FILE} resource of the folder, so that they are loaded with one classpath lookup. Only the
+ * Handlebars engine loads templates through a loader of this module, see
+ * {@link io.swagger.codegen.v3.generators.handlebars.BundleTemplateLoader}: the mustache folders are not bundled.
+ *
+ * Bundles are built by {@link #main(String[])} from the compiled resources. A bundle in a resource folder (and not in
+ * a jar) is not used when a template of its folder is newer, e.g. a template edited and copied to the resources
+ * without building the bundle again.
+ */
+public class TemplateBundle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateBundle.class);
+
+    public static final String BUNDLE_FILE = "templates.bundle";
+    public static final String TEMPLATE_EXTENSION = ".mustache";
+    public static final String ENGINE_FOLDER = "handlebars";
+
+    private static final int MAGIC = 0x53435442;
+    private static final int VERSION = 1;
+
+    private static final Map<String, Optional<TemplateBundle>> BUNDLES = new ConcurrentHashMap<>();
+
+    private final Map<String, String> templates;
+
+    public TemplateBundle(Map<String, String> templates) {
+        this.templates = Collections.unmodifiableMap(new TreeMap<>(templates));
+    }
+
+    /**
+     * @param folder embedded template folder, e.g. handlebars/Java
+     * @return bundle of the folder, loaded once per process, null if the folder was not bundled
+     */
+    public static TemplateBundle load(ClassLoader classLoader, String folder) {
+        final String resource = folder.replace('\\', '/') + '/' + BUNDLE_FILE;
+        return BUNDLES.computeIfAbsent(resource, key -> {
+            final URL url = classLoader.getResource(resource);
+            if (url == null) {
+                return Optional.empty();
+            }
+            try {
+                if (isStale(url)) {
+                    LOGGER.info("Template bundle {} is older than its templates, loading the templates", url);
+                    return Optional.empty();
+                }
+                try (InputStream input = url.openStream()) {
+                    return Optional.of(read(input));
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read template bundle {}: {}", resource, e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * @param url bundle resource
+     * @return true if the bundle is a file older than one of the templates of its folder, bundles in a jar are built
+     * with their templates
+     */
+    static boolean isStale(URL url) throws IOException {
+        if (!"file".equals(url.getProtocol())) {
+            return false;
+        }
+        final Path bundle;
+        try {
+            bundle = Paths.get(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+        final long built = Files.getLastModifiedTime(bundle).toMillis();
+        try (Stream<Path> files = Files.walk(bundle.getParent())) {
+            return files.filter(file -> file.getFileName().toString().endsWith(TEMPLATE_EXTENSION))
+                    .anyMatch(file -> file.toFile().lastModified() > built);
+        }
+    }
+
+    /**
+     * @param path template path in the folder, separated by '/', e.g. libraries/okhttp-gson/pojo.mustache
+     * @return content of the template, null if it is not in the bundle
+     */
+    public String getTemplate(String path) {
+        return templates.get(path);
+    }
+
+    public Map<String, String> getTemplates() {
+        return templates;
+    }
+
+    public static TemplateBundle read(InputStream in) throws IOException {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(in));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Not a template bundle");
+        }
+        final int count = input.readInt();
+        final Map<String, String> templates = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            final String path = input.readUTF();
+            final byte[] content = new byte[input.readInt()];
+            input.readFully(content);
+            templates.put(path, new String(content, StandardCharsets.UTF_8));
+        }
+        return new TemplateBundle(templates);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(templates.size());
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            final byte[] content = template.getValue().getBytes(StandardCharsets.UTF_8);
+            output.writeUTF(template.getKey());
+            output.writeInt(content.length);
+            output.write(content);
+        }
+        output.flush();
+    }
+
+    /**
+     * @param folder template folder
+     * @return bundle of the templates of the folder and its sub folders
+     */
+    public static TemplateBundle of(Path folder) throws IOException {
+        final Map<String, String> templates = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                if (file.getFileName().toString().endsWith(TEMPLATE_EXTENSION)) {
+                    templates.put(folder.relativize(file).toString().replace(File.separatorChar, '/'),
+                            new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return new TemplateBundle(templates);
+    }
+
+    /**
+     * Build step writing the bundle of each embedded Handlebars template folder, run on the compiled resources.
+     *
+     * @param args folder of the compiled resources, e.g. target/classes
+     */
+    public static void main(String[] args) throws IOException {
+        final Path resources = new File(args.length > 0 ? args[0] : "target/classes").toPath();
+        final Path engine = resources.resolve(ENGINE_FOLDER);
+        int bundles = 0;
+        if (Files.isDirectory(engine)) {
+            final List<Path> folders;
+            try (Stream<Path> children = Files.list(engine)) {
+                folders = children.filter(Files::isDirectory).collect(Collectors.toList());
+            }
+            for (Path folder : folders) {
+                final TemplateBundle bundle = of(folder);
+                if (bundle.getTemplates().isEmpty()) {
+                    continue;
+                }
+                try (OutputStream out = Files.newOutputStream(folder.resolve(BUNDLE_FILE))) {
+                    bundle.write(out);
+                }
+                bundles++;
+            }
+        }
+        LOGGER.info("wrote {} template bundles to {}", bundles, resources);
+    }
+}
@@ -0,0 +1,183 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Composable text escaper.
+ *
+ * Character replacements are applied in a single pass over the input (a character can be given a different
+ * replacement when followed by a given character). Sequence replacements are then applied in registration order,
+ * each with the semantics of {@link String#replace(CharSequence, CharSequence)}, and only copy the text when the
+ * sequence is found. The input is returned as is when nothing has to be replaced.
+ *
+ * Instances are configured once (usually in a codegen constructor) and are then safe for concurrent use.
+ */
+public class TextEscaper {
+
+    private static final int ASCII_TABLE_SIZE = 128;
+
+    private final String[] asciiReplacements = new String[ASCII_TABLE_SIZE];
+    private final Map<Character, String> replacements = new HashMap<>();
+    private final Map<Character, Map<Character, String>> followedByReplacements = new HashMap<>();
+    private final boolean[] asciiFollowedBy = new boolean[ASCII_TABLE_SIZE];
+    private boolean nonAsciiFollowedBy;
+    private final List<String[]> sequenceReplacements = new ArrayList<>();
+
+    public TextEscaper() {
+    }
+
+    /**
+     * Copy the replacements of the given escaper, so that new ones can be registered without affecting it.
+     *
+     * @param escaper escaper to copy
+     */
+    public TextEscaper(TextEscaper escaper) {
+        System.arraycopy(escaper.asciiReplacements, 0, asciiReplacements, 0, ASCII_TABLE_SIZE);
+        replacements.putAll(escaper.replacements);
+        for (Map.Entry<Character, Map<Character, String>> entry : escaper.followedByReplacements.entrySet()) {
+            followedByReplacements.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        System.arraycopy(escaper.asciiFollowedBy, 0, asciiFollowedBy, 0, ASCII_TABLE_SIZE);
+        nonAsciiFollowedBy = escaper.nonAsciiFollowedBy;
+        sequenceReplacements.addAll(escaper.sequenceReplacements);
+    }
+
+    /**
+     * Escaper matching the escaping of {@code DefaultCodegenConfig.escapeText} (before escaping unsafe characters):
+     * tabs and line breaks are replaced by spaces, backslashes and double quotes are escaped with a backslash, and a
+     * backslash followed by a slash is removed.
+     *
+     * @return a new escaper with the text mappings
+     */
+    public static TextEscaper createTextEscaper() {
+        return new TextEscaper()
+                .addReplacement('\t', " ")
+                .addReplacement('\n', " ")
+                .addReplacement('\r', " ")
+                .addReplacement('\\', "\\\\")
+                .addReplacement('\\', '/', "")
+                .addReplacement('"', "\\\"");
+    }
+
+    /**
+     * @param character character to be replaced
+     * @param replacement replacement, empty to remove the character
+     * @return this escaper
+     */
+    public TextEscaper addReplacement(char character, String replacement) {
+        final String value = replacement == null ? "" : replacement;
+        if (character < ASCII_TABLE_SIZE) {
+            asciiReplacements[character] = value;
+        } else {
+            replacements.put(character, value);
+        }
+        return this;
+    }
+
+    /**
+     * @param character character to be replaced when followed by the given character
+     * @param followedBy character following the replaced one, left untouched by this replacement
+     * @param replacement replacement, empty to remove the character
+     * @return this escaper
+     */
+    public TextEscaper addReplacement(char character, char followedBy, String replacement) {
+        followedByReplacements.computeIfAbsent(character, c -> new HashMap<>())
+                .put(followedBy, replacement == null ? "" : replacement);
+        if (character < ASCII_TABLE_SIZE) {
+            asciiFollowedBy[character] = true;
+        } else {
+            nonAsciiFollowedBy = true;
+        }
+        return this;
+    }
+
+    /**
+     * @param character character to be removed
+     * @return this escaper
+     */
+    public TextEscaper removeCharacter(char character) {
+        return addReplacement(character, "");
+    }
+
+    /**
+     * Register a replacement applied after character replacements and previously registered sequence replacements.
+     *
+     * @param sequence sequence to be replaced, not empty
+     * @param replacement replacement
+     * @return this escaper
+     */
+    public TextEscaper addSequenceReplacement(String sequence, String replacement) {
+        if (sequence == null || sequence.isEmpty()) {
+            throw new IllegalArgumentException("sequence to be replaced must not be empty");
+        }
+        sequenceReplacements.add(new String[]{sequence, replacement == null ? "" : replacement});
+        return this;
+    }
+
+    /**
+     * @param input text to escape
+     * @return escaped text, null if input is null
+     */
+    public String escape(String input) {
+        if (input == null) {
+            return null;
+        }
+        String output = replaceCharacters(input);
+        for (String[] sequenceReplacement : sequenceReplacements) {
+            output = replaceSequence(output, sequenceReplacement[0], sequenceReplacement[1]);
+        }
+        return output;
+    }
+
+    private String replaceCharacters(String input) {
+        final int length = input.length();
+        StringBuilder builder = null;
+        for (int i = 0; i < length; i++) {
+            final char c = input.charAt(i);
+            final String replacement = getReplacement(c, i + 1 < length ? input.charAt(i + 1) : -1);
+            if (replacement == null) {
+                if (builder != null) {
+                    builder.append(c);
+                }
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(length + 16);
+                builder.append(input, 0, i);
+            }
+            builder.append(replacement);
+        }
+        return builder == null ? input : builder.toString();
+    }
+
+    private String getReplacement(char c, int next) {
+        if (next >= 0 && (c < ASCII_TABLE_SIZE ? asciiFollowedBy[c] : nonAsciiFollowedBy)) {
+            final Map<Character, String> followedBy = followedByReplacements.get(c);
+            if (followedBy != null && followedBy.containsKey((char) next)) {
+                return followedBy.get((char) next);
+            }
+        }
+        if (c < ASCII_TABLE_SIZE) {
+            return asciiReplacements[c];
+        }
+        return replacements.isEmpty() ? null : replacements.get(c);
+    }
+
+    private static String replaceSequence(String input, String sequence, String replacement) {
+        int index = input.indexOf(sequence);
+        if (index < 0) {
+            return input;
+        }
+        final StringBuilder builder = new StringBuilder(input.length() + 16);
+        int start = 0;
+        while (index >= 0) {
+            builder.append(input, start, index).append(replacement);
+            start = index + sequence.length();
+            index = input.indexOf(sequence, start);
+        }
+        return builder.append(input, start, input.length()).toString();
+    }
+}
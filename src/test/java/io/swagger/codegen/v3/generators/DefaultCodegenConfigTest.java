@@ -2,11 +2,15 @@ package io.swagger.codegen.v3.generators;
 
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.generators.instrumentation.GenerationPhase;
+import io.swagger.codegen.v3.generators.instrumentation.InstrumentedTemplateEngine;
+import io.swagger.codegen.v3.generators.instrumentation.RecordingInstrumentation;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -18,19 +22,26 @@ import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.NumberSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class DefaultCodegenConfigTest {
 
@@ -100,6 +111,116 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(codegenProperty.maximum, "1000");
     }
 
+    @Test
+    public void testSkipSchemaJson() {
+        Schema schema = new Schema().type("object").addProperties("id", new IntegerSchema());
+
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        Assert.assertNotNull(codegen.fromModel("Test", schema).modelJson);
+        Assert.assertNotNull(codegen.fromProperty("id", new IntegerSchema()).jsonSchema);
+
+        codegen.additionalProperties().put(DefaultCodegenConfig.SKIP_SCHEMA_JSON, "true");
+        codegen.processOpts();
+        Assert.assertNull(codegen.fromModel("Test", schema).modelJson);
+        Assert.assertNull(codegen.fromProperty("id", new IntegerSchema()).jsonSchema);
+    }
+
+    @Test
+    public void testSchemaTypeCache() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.preprocessOpenAPI(openAPI);
+        codegen.fromModels(openAPI.getComponents().getSchemas(), openAPI.getComponents().getSchemas());
+
+        final Schema stringSchema = new StringSchema();
+        final long hits = codegen.getSchemaTypeCache().getHitCount();
+        Assert.assertEquals(codegen.getTypeDeclaration(stringSchema), "String");
+        Assert.assertEquals(codegen.getTypeDeclaration(stringSchema), "String");
+        Assert.assertEquals(codegen.getSchemaTypeCache().getHitCount(), hits + 1);
+
+        // container types are always resolved again, as their items may be replaced
+        final ArraySchema arraySchema = new ArraySchema().items(new IntegerSchema());
+        Assert.assertEquals(codegen.getTypeDeclaration(arraySchema), "List");
+        arraySchema.setItems(new StringSchema());
+        Assert.assertEquals(codegen.getSchemaTypeCache().getHitCount(), hits + 1);
+
+        codegen.preprocessOpenAPI(openAPI);
+        Assert.assertEquals(codegen.getSchemaTypeCache().getRequestCount(), 0);
+    }
+
+    @Test
+    public void testParallelConversionKeepsOrder() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+
+        final DefaultCodegenConfig sequential = new P_DefaultCodegenConfig();
+        sequential.preprocessOpenAPI(openAPI);
+        final DefaultCodegenConfig parallel = new P_DefaultCodegenConfig();
+        parallel.setConversionParallelism(4);
+        parallel.preprocessOpenAPI(openAPI);
+
+        final Map<String, CodegenModel> sequentialModels = sequential.fromModels(schemas, schemas);
+        final Map<String, CodegenModel> parallelModels = parallel.fromModels(schemas, schemas);
+        Assert.assertEquals(new ArrayList<>(parallelModels.keySet()), new ArrayList<>(schemas.keySet()));
+        for (String name : schemas.keySet()) {
+            Assert.assertEquals(parallelModels.get(name).classname, sequentialModels.get(name).classname);
+            Assert.assertEquals(parallelModels.get(name).vars.size(), sequentialModels.get(name).vars.size());
+        }
+
+        final List<CodegenOperation> sequentialOperations = sequential.fromOperations(openAPI.getPaths(), schemas, openAPI);
+        final List<CodegenOperation> parallelOperations = parallel.fromOperations(openAPI.getPaths(), schemas, openAPI);
+        Assert.assertFalse(parallelOperations.isEmpty());
+        Assert.assertEquals(parallelOperations.size(), sequentialOperations.size());
+        for (int i = 0; i < sequentialOperations.size(); i++) {
+            Assert.assertEquals(parallelOperations.get(i).operationId, sequentialOperations.get(i).operationId);
+            Assert.assertEquals(parallelOperations.get(i).httpMethod, sequentialOperations.get(i).httpMethod);
+        }
+    }
+
+    @Test
+    public void testInstrumentation() throws Exception {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        final File reportFile = File.createTempFile("instrumentation", ".json");
+        reportFile.deleteOnExit();
+
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.additionalProperties().put(DefaultCodegenConfig.INSTRUMENTATION_REPORT, reportFile.getAbsolutePath());
+        codegen.processOpts();
+        Assert.assertTrue(codegen.getInstrumentation() instanceof RecordingInstrumentation);
+        Assert.assertTrue(codegen.getTemplateEngine() instanceof InstrumentedTemplateEngine);
+
+        codegen.preprocessOpenAPI(openAPI);
+        codegen.fromModels(schemas, schemas);
+        codegen.fromOperations(openAPI.getPaths(), schemas, openAPI);
+        codegen.processOpenAPI(openAPI);
+
+        final RecordingInstrumentation instrumentation = (RecordingInstrumentation) codegen.getInstrumentation();
+        Assert.assertEquals(instrumentation.getCount(GenerationPhase.BASE_PREPROCESS_OPENAPI), 1);
+        Assert.assertEquals(instrumentation.getCount(GenerationPhase.FROM_MODEL, "Pet"), 1);
+        Assert.assertTrue(instrumentation.getCount(GenerationPhase.FROM_MODEL) >= schemas.size());
+        Assert.assertEquals(instrumentation.getCount(GenerationPhase.FROM_OPERATION, "GET /pet/findByStatus"), 1);
+        Assert.assertTrue(FileUtils.readFileToString(reportFile).contains("\"FROM_OPERATION\""));
+    }
+
+    @Test
+    public void testReachableModelsFrom() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.additionalProperties().put(DefaultCodegenConfig.REACHABLE_MODELS_FROM, "store, updatePet");
+        codegen.processOpts();
+        final Set<String> schemaNames = new HashSet<>(openAPI.getComponents().getSchemas().keySet());
+        codegen.preprocessOpenAPI(openAPI);
+
+        final Map<String, Object> processedModels = ProcessedModels.of(codegen, openAPI.getComponents().getSchemas());
+        codegen.postProcessAllModels(processedModels);
+        Assert.assertEquals(processedModels.keySet(), new HashSet<>(Arrays.asList("Order", "Pet", "Category", "Tag")));
+        // the document is left as given
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), schemaNames);
+        Assert.assertEquals(codegen.getSchemaDependencyGraph().getSchemaNames(), schemaNames);
+    }
+
     @Test
     public void testFromOperation_BodyParamsUnique() {
         PathItem dummyPath = new PathItem()
@@ -0,0 +1,53 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.generators.dotnet.CSharpClientCodegen;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class GeneratorDescriptorsTest {
+
+    @Test
+    public void testDescriptorsMatchGenerators() {
+        final List<GeneratorDescriptor> descriptors = GeneratorDescriptors.getDescriptors();
+        int generators = 0;
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            final GeneratorDescriptor descriptor = GeneratorDescriptors.getDescriptor(config.getName());
+            Assert.assertNotNull(descriptor, config.getName());
+            Assert.assertEquals(descriptor.getClassName(), config.getClass().getName());
+            Assert.assertEquals(descriptor.getTag(), config.getTag());
+            Assert.assertEquals(descriptor.getHelp(), config.getHelp());
+            generators++;
+        }
+        Assert.assertEquals(descriptors.size(), generators);
+    }
+
+    @Test
+    public void testForName() {
+        Assert.assertTrue(GeneratorDescriptors.forName("java") instanceof JavaClientCodegen);
+        Assert.assertNull(GeneratorDescriptors.getDescriptor("unknown"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testForUnknownName() {
+        GeneratorDescriptors.forName("unknown");
+    }
+
+    @Test
+    public void testSharedTablesAreCopied() {
+        final JavaClientCodegen java = new JavaClientCodegen();
+        java.reservedWords().add("pet");
+        java.languageSpecificPrimitives().add("Pet");
+        Assert.assertFalse(new JavaClientCodegen().reservedWords().contains("pet"));
+        Assert.assertFalse(new JavaClientCodegen().languageSpecificPrimitives().contains("Pet"));
+        Assert.assertTrue(java.reservedWords().contains("abstract"));
+
+        final CSharpClientCodegen csharp = new CSharpClientCodegen();
+        csharp.typeMapping().put("string", "String");
+        Assert.assertEquals(new CSharpClientCodegen().typeMapping().get("string"), "string");
+    }
+}
@@ -0,0 +1,141 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.python.PythonClientCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class MultiLanguageGeneratorTest {
+
+    @Test
+    public void testAnalysisCopies() {
+        final SpecAnalysis analysis = SpecAnalysis.parse("src/test/resources/3_0_0/petstore.yaml");
+        final OpenAPI first = analysis.copyOpenAPI();
+        final OpenAPI second = analysis.copyOpenAPI();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertNotSame(first.getComponents().getSchemas().get("Pet"), analysis.getOpenAPI().getComponents().getSchemas().get("Pet"));
+        Assert.assertEquals(first.getComponents().getSchemas().keySet(), analysis.getOpenAPI().getComponents().getSchemas().keySet());
+        Assert.assertEquals(first.getPaths().keySet(), analysis.getOpenAPI().getPaths().keySet());
+        Assert.assertEquals(analysis.getAliases(), DefaultCodegenConfig.getAllAliases(first.getComponents().getSchemas()));
+        Assert.assertTrue(analysis.getSchemaDependencyGraph().getDependencies("Pet").contains("Category"));
+    }
+
+    @Test
+    public void testGenerateLanguages() throws IOException {
+        final File output = Files.createTempDirectory("fan-out").toFile();
+        try {
+            final JavaClientCodegen java = new JavaClientCodegen();
+            java.setOutputDir(new File(output, "java").getAbsolutePath());
+            final PythonClientCodegen python = new PythonClientCodegen();
+            python.setOutputDir(new File(output, "python").getAbsolutePath());
+
+            final SpecAnalysis analysis = SpecAnalysis.parse("src/test/resources/3_0_0/petstore.yaml");
+            final List<DefaultCodegenConfig> configs = Arrays.asList(java, python);
+            final Map<DefaultCodegenConfig, List<File>> files = new MultiLanguageGenerator(analysis, 2).generate(configs);
+
+            Assert.assertEquals(new ArrayList<>(files.keySet()), configs);
+            Assert.assertTrue(new File(output, "java/src/main/java/io/swagger/client/model/Order.java").exists());
+            Assert.assertFalse(files.get(python).isEmpty());
+            Assert.assertSame(java.getExampleCache(), analysis.getExampleCache());
+            Assert.assertSame(python.getExampleCache(), analysis.getExampleCache());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "The generators of a fan-out work on a copy of the document, they must generate the same files as from the parsed document.")
+    public void testFanOutGeneratesSameFiles() throws IOException {
+        final String spec = "src/test/resources/3_0_0/fan_out.yaml";
+        final File output = Files.createTempDirectory("fan-out").toFile();
+        try {
+            final List<DefaultCodegenConfig> configs = Arrays.asList(
+                    newConfig(new JavaClientCodegen(), new File(output, "fan-out/java")),
+                    newConfig(new PythonClientCodegen(), new File(output, "fan-out/python")));
+            new MultiLanguageGenerator(SpecAnalysis.parse(spec), 2).generate(configs);
+
+            final ParseOptions options = new ParseOptions();
+            options.setResolve(true);
+            options.setFlatten(true);
+            for (DefaultCodegenConfig config : Arrays.asList(
+                    newConfig(new JavaClientCodegen(), new File(output, "single/java")),
+                    newConfig(new PythonClientCodegen(), new File(output, "single/python")))) {
+                final ClientOptInput input = new ClientOptInput()
+                        .opts(new ClientOpts())
+                        .openAPI(new OpenAPIV3Parser().readLocation(spec, null, options).getOpenAPI())
+                        .config(config);
+                new DefaultGenerator().opts(input).generate();
+            }
+
+            for (String language : Arrays.asList("java", "python")) {
+                final Map<String, String> fanOut = readFiles(new File(output, "fan-out/" + language));
+                final Map<String, String> single = readFiles(new File(output, "single/" + language));
+                Assert.assertEquals(fanOut.keySet(), single.keySet(), language);
+                for (Map.Entry<String, String> file : single.entrySet()) {
+                    Assert.assertEquals(fanOut.get(file.getKey()), file.getValue(), language + " " + file.getKey());
+                }
+            }
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testSharedExamplesDoNotDependOnFillOrder() {
+        final SpecAnalysis analysis = SpecAnalysis.parse("src/test/resources/3_0_0/petstore.yaml");
+        final PythonClientCodegen python = new PythonClientCodegen();
+        python.setSpecAnalysis(analysis);
+        final OpenAPI pythonOpenAPI = analysis.copyOpenAPI();
+        python.preprocessOpenAPI(pythonOpenAPI);
+        for (Map.Entry<String, PathItem> path : pythonOpenAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                python.fromOperation(path.getKey(), operation.getKey().name(), operation.getValue(), pythonOpenAPI.getComponents().getSchemas(), pythonOpenAPI);
+            }
+        }
+
+        final JavaClientCodegen shared = new JavaClientCodegen();
+        shared.setSpecAnalysis(analysis);
+        final JavaClientCodegen own = new JavaClientCodegen();
+        Assert.assertEquals(getOrderExamples(shared, analysis.copyOpenAPI()), getOrderExamples(own, analysis.copyOpenAPI()));
+    }
+
+    private static DefaultCodegenConfig newConfig(DefaultCodegenConfig config, File outputFolder) {
+        config.setOutputDir(outputFolder.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        return config;
+    }
+
+    private static Map<String, String> readFiles(File folder) throws IOException {
+        final Map<String, String> files = new TreeMap<>();
+        for (File file : FileUtils.listFiles(folder, null, true)) {
+            files.put(folder.toPath().relativize(file.toPath()).toString(), FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        }
+        return files;
+    }
+
+    private static List<Map<String, String>> getOrderExamples(DefaultCodegenConfig config, OpenAPI openAPI) {
+        config.preprocessOpenAPI(openAPI);
+        final Operation operation = openAPI.getPaths().get("/store/order/{orderId}").getGet();
+        return config.fromOperation("/store/order/{orderId}", "GET", operation, openAPI.getComponents().getSchemas(), openAPI).examples;
+    }
+}
@@ -0,0 +1,44 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converted models in the structure core gives to {@link CodegenConfig#postProcessAllModels(Map)}: a map of
+ * {"models": [{"model": codegenModel}]} by schema name.
+ */
+public final class ProcessedModels {
+
+    private ProcessedModels() {
+    }
+
+    public static Map<String, Object> of(CodegenConfig config, Map<String, Schema> schemas) {
+        return of(config, schemas, schemas.keySet());
+    }
+
+    /**
+     * @param names names of the schemas to convert, in the order of the returned map
+     */
+    public static Map<String, Object> of(CodegenConfig config, Map<String, Schema> schemas, Collection<String> names) {
+        final Map<String, Object> processedModels = new LinkedHashMap<>();
+        for (String name : names) {
+            final CodegenModel model = config.fromModel(name, schemas.get(name), schemas);
+            processedModels.put(name, Collections.singletonMap("models",
+                    Collections.singletonList(Collections.singletonMap("model", model))));
+        }
+        return processedModels;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static CodegenModel getModel(Map<String, Object> processedModels, String name) {
+        final Map<String, Object> models = (Map<String, Object>) processedModels.get(name);
+        return ((List<Map<String, CodegenModel>>) models.get("models")).get(0).get("model");
+    }
+}
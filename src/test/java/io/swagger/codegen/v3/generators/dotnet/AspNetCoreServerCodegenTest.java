@@ -2,14 +2,18 @@ package io.swagger.codegen.v3.generators.dotnet;
 
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Map;
+
 public class AspNetCoreServerCodegenTest extends AbstractCodegenTest {
 
     @Test(description = "Verify if List<> is fixed for array schema with composed items.")
@@ -32,4 +36,18 @@ public class AspNetCoreServerCodegenTest extends AbstractCodegenTest {
         Assert.assertEquals(codegenProperty.datatype, "List<OneOfHousePetsItems>");
 
     }
+
+    @Test(description = "The controllers deserialize the examples with JsonConvert, so only JSON examples are generated.")
+    public void checkJsonExamplesOnly() {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/petstore.yaml");
+        final Operation operation = openAPI.getPaths().get("/pet/{petId}").getGet();
+        final AspNetCoreServerCodegen codegen = new AspNetCoreServerCodegen();
+        codegen.preprocessOpenAPI(openAPI);
+        final CodegenOperation co = codegen.fromOperation("/pet/{petId}", "GET", operation, openAPI.getComponents().getSchemas(), openAPI);
+
+        Assert.assertFalse(co.examples.isEmpty());
+        for (Map<String, String> example : co.examples) {
+            Assert.assertEquals(example.get("contentType"), "application/json");
+        }
+    }
 }
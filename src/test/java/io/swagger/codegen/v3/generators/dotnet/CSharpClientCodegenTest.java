@@ -2,13 +2,25 @@ package io.swagger.codegen.v3.generators.dotnet;
 
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
+import io.swagger.codegen.v3.generators.ProcessedModels;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
+
 public class CSharpClientCodegenTest extends AbstractCodegenTest {
 
     @Test
@@ -45,4 +57,30 @@ public class CSharpClientCodegenTest extends AbstractCodegenTest {
 
         Assert.assertTrue(hasComposedModel);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkSharedEnumRefs() {
+        final Components components = new Components()
+            .addSchemas("Status", new StringSchema()._enum(Arrays.asList("available", "sold")))
+            .addSchemas("Pet", new ObjectSchema().addProperties("status", new Schema().$ref("#/components/schemas/Status")))
+            .addSchemas("Order", new ObjectSchema().addProperties("status", new Schema().$ref("#/components/schemas/Status")));
+        final OpenAPI openAPI = new OpenAPI().components(components);
+        final CSharpClientCodegen config = new CSharpClientCodegen();
+        config.preprocessOpenAPI(openAPI);
+
+        final Map<String, Object> processedModels = ProcessedModels.of(config, components.getSchemas());
+        config.postProcessAllModels(processedModels);
+
+        final CodegenProperty petStatus = ProcessedModels.getModel(processedModels, "Pet").vars.get(0);
+        final CodegenProperty orderStatus = ProcessedModels.getModel(processedModels, "Order").vars.get(0);
+        Assert.assertSame(petStatus.allowableValues, orderStatus.allowableValues);
+        Assert.assertEquals(petStatus.getVendorExtensions().get(IS_ENUM_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(orderStatus.getVendorExtensions().get(IS_ENUM_EXT_NAME), Boolean.TRUE);
+
+        final List<Map<String, String>> enumVars = (List<Map<String, String>>) orderStatus.allowableValues.get("enumVars");
+        Assert.assertEquals(enumVars.size(), 2);
+        Assert.assertEquals(enumVars.get(0).get("value"), "available");
+        Assert.assertEquals(enumVars.get(1).get("value"), "sold");
+    }
 }
@@ -1,8 +1,14 @@
 package io.swagger.codegen.v3.generators.examples;
 
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.XML;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.io.FileUtils;
@@ -11,6 +17,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +48,21 @@ public class ExampleGeneratorTest {
         Assert.assertTrue(example.contains("\"name\" : \"doggie\""));
     }
 
+    @Test
+    public void testExamplesDoNotDependOnCacheFillOrder() throws Exception {
+        final Schema orderRef = new Schema().$ref("#/components/schemas/Order");
+        final Schema wrapper = new ObjectSchema()
+            .addProperties("count", new IntegerSchema())
+            .addProperties("order", new Schema().$ref("#/components/schemas/Order"));
+
+        final ExampleCache wrapperFirst = new ExampleCache();
+        new ExampleGenerator(openAPI, null, wrapperFirst).generate(null, null, wrapper);
+        final String order = new ExampleGenerator(openAPI, null, wrapperFirst).generate(null, null, orderRef).get(0).get("example");
+
+        final String orderFirst = new ExampleGenerator(openAPI, null, new ExampleCache()).generate(null, null, orderRef).get(0).get("example");
+        Assert.assertEquals(order, orderFirst);
+    }
+
     @Test
     public void testExampleWithRecursiveNodes() throws Exception {
         final Schema categorySchema = openAPI.getComponents().getSchemas().get("Category");
@@ -52,4 +74,63 @@ public class ExampleGeneratorTest {
         Assert.assertEquals(example.get("contentType"), "application/json");
         Assert.assertTrue(example.get("example").contains("\"name\" : \"Yinotheria\""));
     }
+
+    @Test
+    public void testSharedExampleCache() throws Exception {
+        final Schema petSchema = openAPI.getComponents().getSchemas().get("Pet");
+        final Schema petRef = new Schema().$ref("#/components/schemas/Pet");
+        final ExampleCache exampleCache = new ExampleCache();
+
+        final String example = new ExampleGenerator(openAPI, null, exampleCache).generate(null, null, petRef).get(0).get("example");
+        Assert.assertTrue(example.contains("\"name\" : \"doggie\""));
+        Assert.assertTrue(exampleCache.size() > 0);
+        Assert.assertEquals(new ExampleGenerator(openAPI, null, exampleCache).generate(null, null, petRef).get(0).get("example"), example);
+        // the specification is left untouched
+        Assert.assertNull(petSchema.getExample());
+    }
+
+    @Test
+    public void testExampleWithRecursiveModels() throws Exception {
+        final Schema node = new ObjectSchema()
+                .addProperties("name", new StringSchema())
+                .addProperties("parent", new Schema().$ref("#/components/schemas/Node"))
+                .addProperties("children", new ArraySchema().items(new Schema().$ref("#/components/schemas/Node")));
+        final OpenAPI recursiveOpenAPI = new OpenAPI().components(new Components().addSchemas("Node", node));
+        final ExampleCache exampleCache = new ExampleCache();
+
+        final String example = new ExampleGenerator(recursiveOpenAPI, null, exampleCache)
+                .generate(null, null, new Schema().$ref("#/components/schemas/Node")).get(0).get("example");
+        Assert.assertTrue(example.contains("\"name\" : \"name\""));
+        Assert.assertNull(node.getExample());
+        Assert.assertEquals(exampleCache.size(), 1);
+    }
+
+    @Test
+    public void testXmlExample() throws Exception {
+        final Schema petRef = new Schema().$ref("#/components/schemas/Pet");
+        final ExampleCache exampleCache = new ExampleCache();
+
+        final List<Map<String, String>> exampleList = new ExampleGenerator(openAPI, null, exampleCache)
+                .generate(null, Arrays.asList("application/json", "application/xml"), petRef);
+        Assert.assertEquals(exampleList.size(), 2);
+        Assert.assertEquals(exampleList.get(1).get("contentType"), "application/xml");
+
+        final String example = exampleList.get(1).get("example");
+        Assert.assertTrue(example.startsWith("<Pet>"));
+        Assert.assertTrue(example.contains("<name>doggie</name>"));
+        Assert.assertTrue(example.contains("<photoUrl>"));
+        Assert.assertTrue(example.contains("<status>available</status>"));
+        Assert.assertEquals(exampleCache.getSerializedExample("#/components/schemas/Pet", "application/xml"), example);
+    }
+
+    @Test
+    public void testXmlExampleWithXmlObject() throws Exception {
+        final Schema schema = new ObjectSchema()
+                .addProperties("id", new StringSchema().example("1").xml(new XML().attribute(true)))
+                .addProperties("names", new ArraySchema().items(new StringSchema().example("a<b")).xml(new XML().name("name")))
+                .xml(new XML().name("item").prefix("smp").namespace("http://example.com/schema/sample"));
+
+        final String example = new ExampleGenerator(new OpenAPI()).generate(null, Arrays.asList("application/xml"), schema).get(0).get("example");
+        Assert.assertEquals(example, "<smp:item xmlns:smp=\"http://example.com/schema/sample\" id=\"1\">\n  <name>a&lt;b</name>\n</smp:item>");
+    }
 }
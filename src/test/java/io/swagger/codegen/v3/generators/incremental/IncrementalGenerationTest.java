@@ -0,0 +1,135 @@
+package io.swagger.codegen.v3.generators.incremental;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalGenerationTest {
+
+    private File outputDir;
+
+    @BeforeMethod
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("incremental-generation").toFile();
+    }
+
+    @AfterMethod
+    public void deleteOutputDir() throws IOException {
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Test
+    public void testUnchangedFilesAreSkipped() throws IOException {
+        final Map<String, Boolean> first = generate(readPetstore(), Collections.emptyMap());
+        Assert.assertTrue(first.get("Pet"));
+        Assert.assertTrue(first.get("Order"));
+        Assert.assertTrue(first.get("StoreApi"));
+        Assert.assertTrue(new File(outputDir, IncrementalGeneration.MANIFEST_FILE).isFile());
+
+        final Map<String, Boolean> second = generate(readPetstore(), Collections.emptyMap());
+        Assert.assertFalse(second.get("Pet"));
+        Assert.assertFalse(second.get("Order"));
+        Assert.assertFalse(second.get("StoreApi"));
+    }
+
+    @Test
+    public void testChangedDependencyIsGenerated() throws IOException {
+        generate(readPetstore(), Collections.emptyMap());
+
+        final OpenAPI openAPI = readPetstore();
+        openAPI.getComponents().getSchemas().get("Category").addProperties("description", new StringSchema());
+        final Map<String, Boolean> changed = generate(openAPI, Collections.emptyMap());
+        // Pet refers to Category
+        Assert.assertTrue(changed.get("Pet"));
+        Assert.assertFalse(changed.get("Order"));
+        Assert.assertFalse(changed.get("StoreApi"));
+    }
+
+    @Test
+    public void testChangedOptionsAndDeletedFilesAreGenerated() throws IOException {
+        generate(readPetstore(), Collections.emptyMap());
+
+        final Map<String, Boolean> changed = generate(readPetstore(), Collections.singletonMap("serializableModel", true));
+        Assert.assertTrue(changed.get("Pet"));
+        Assert.assertTrue(changed.get("StoreApi"));
+
+        final JavaClientCodegen codegen = createCodegen(Collections.singletonMap("serializableModel", true));
+        Assert.assertTrue(new File(modelFilename(codegen, "Order")).delete());
+        final Map<String, Boolean> deleted = generate(readPetstore(), Collections.singletonMap("serializableModel", true));
+        Assert.assertTrue(deleted.get("Order"));
+        Assert.assertFalse(deleted.get("Pet"));
+    }
+
+    /**
+     * Runs the calls of a generation on the Pet and Order models and the store api, writing the files to be
+     * overwritten.
+     *
+     * @return whether each file had to be overwritten
+     */
+    private Map<String, Boolean> generate(OpenAPI openAPI, Map<String, Object> options) throws IOException {
+        final JavaClientCodegen codegen = createCodegen(options);
+        codegen.preprocessOpenAPI(openAPI);
+
+        final Map<String, List<CodegenOperation>> groups = new HashMap<>();
+        final Operation operation = openAPI.getPaths().get("/store/inventory").getGet();
+        final CodegenOperation codegenOperation = codegen.fromOperation("/store/inventory", "get", operation,
+                openAPI.getComponents().getSchemas(), openAPI);
+        codegen.addOperationToGroup("store", "/store/inventory", operation, codegenOperation, groups);
+
+        final Map<String, Boolean> overwritten = new HashMap<>();
+        overwritten.put("Pet", write(codegen, modelFilename(codegen, "Pet")));
+        overwritten.put("Order", write(codegen, modelFilename(codegen, "Order")));
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", groups.get("store"));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        codegen.postProcessOperationsWithModels(objs, Collections.emptyList());
+        overwritten.put("StoreApi", write(codegen, codegen.apiFilename("api.mustache", "store")));
+
+        codegen.processOpenAPI(openAPI);
+        return overwritten;
+    }
+
+    private JavaClientCodegen createCodegen(Map<String, Object> options) {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setOutputDir(outputDir.getAbsolutePath());
+        codegen.additionalProperties().putAll(options);
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, true);
+        codegen.processOpts();
+        return codegen;
+    }
+
+    private static String modelFilename(JavaClientCodegen codegen, String name) {
+        return codegen.modelFileFolder() + File.separator + codegen.toModelFilename(name) + ".java";
+    }
+
+    private static boolean write(JavaClientCodegen codegen, String filename) throws IOException {
+        if (!codegen.shouldOverwrite(filename)) {
+            return false;
+        }
+        FileUtils.writeStringToFile(new File(filename), "generated", "UTF-8");
+        return true;
+    }
+
+    private static OpenAPI readPetstore() {
+        return new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+    }
+}
@@ -343,4 +343,33 @@ public class JavaClientCodegenTest extends AbstractCodegenTest {
 
         Assert.assertTrue(hasComposedModel);
     }
+
+    @Test
+    public void checkDeduplicatedComposedModels() {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/composed_schemas.yaml");
+        final JavaClientCodegen config = new JavaClientCodegen();
+        config.setDeduplicateComposedModels(true);
+        final CodegenWrapper codegenWrapper = processSchemas(config, openAPI);
+
+        final CodegenProperty part = codegenWrapper.getAllModels().get("Pet").getVars()
+            .stream()
+            .filter(codegenProperty -> codegenProperty.baseName.equals("part"))
+            .findFirst()
+            .get();
+        final CodegenProperty pets = codegenWrapper.getAllModels().get("House").getVars()
+            .stream()
+            .filter(codegenProperty -> codegenProperty.baseName.equals("pets"))
+            .findFirst()
+            .get();
+        Assert.assertEquals(part.datatype, "List<OneOfPetPartItems>");
+        Assert.assertEquals(pets.datatype, "List<OneOfPetPartItems>");
+
+        final List<CodegenModel> models = codegenWrapper.getSchemaHandler().getModels();
+        Assert.assertEquals(models.stream().filter(model -> model.name.equals("OneOfPetPartItems")).count(), 1L);
+        Assert.assertFalse(models.stream().anyMatch(model -> model.name.equals("OneOfHousePetsItems")));
+        // the discriminator makes the items of AllPetsResponse a distinct composed model
+        Assert.assertEquals(codegenWrapper.getAllModels().get("AllPetsResponse").parent, "List<OneOfAllPetsResponseItems>");
+        Assert.assertEquals(codegenWrapper.getAllModels().get("Dog").getInterfaceModels().stream()
+            .filter(model -> model.name.equals("OneOfPetPartItems")).count(), 1L);
+    }
 }
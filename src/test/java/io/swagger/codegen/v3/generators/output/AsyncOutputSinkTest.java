@@ -0,0 +1,89 @@
+package io.swagger.codegen.v3.generators.output;
+
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.openapi.OpenAPIGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+public class AsyncOutputSinkTest {
+
+    private static final File OUTPUT_FOLDER = new File("target/generated");
+
+    @Test
+    public void testFilesAreWritten() throws IOException {
+        final InMemoryOutputSink delegate = new InMemoryOutputSink(OUTPUT_FOLDER);
+        final AsyncOutputSink sink = new AsyncOutputSink(delegate, 3, 4);
+        for (int i = 0; i < 100; i++) {
+            sink.write(new File(OUTPUT_FOLDER, "Model" + i + ".java"), bytes("class Model" + i + " {}"));
+        }
+        // the last write of a file wins
+        sink.write(new File(OUTPUT_FOLDER, "Model0.java"), bytes("class Model0 { int id; }"));
+        sink.shutdown();
+
+        Assert.assertEquals(delegate.getPaths().size(), 100);
+        Assert.assertEquals(delegate.getContentAsString("Model99.java"), "class Model99 {}");
+        Assert.assertEquals(delegate.getContentAsString("Model0.java"), "class Model0 { int id; }");
+        Assert.assertTrue(sink.exists(new File(OUTPUT_FOLDER, "Model42.java")));
+    }
+
+    @Test
+    public void testErrorsAreThrownOnFlush() throws IOException {
+        final InMemoryOutputSink delegate = new InMemoryOutputSink(OUTPUT_FOLDER) {
+            @Override
+            public synchronized boolean write(File file, byte[] content) {
+                if (file.getName().startsWith("Bad")) {
+                    throw new IllegalStateException("Could not write " + file.getName());
+                }
+                return super.write(file, content);
+            }
+        };
+        final AsyncOutputSink sink = new AsyncOutputSink(delegate, 2, 2);
+        sink.write(new File(OUTPUT_FOLDER, "Pet.java"), bytes("class Pet {}"));
+        sink.write(new File(OUTPUT_FOLDER, "BadOrder.java"), bytes("class Order {}"));
+        sink.write(new File(OUTPUT_FOLDER, "BadUser.java"), bytes("class User {}"));
+
+        try {
+            sink.shutdown();
+            Assert.fail("write errors were not thrown");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getSuppressed().length, 1);
+        }
+        Assert.assertEquals(delegate.getContentAsString("Pet.java"), "class Pet {}");
+
+        try {
+            sink.write(new File(OUTPUT_FOLDER, "Tag.java"), bytes("class Tag {}"));
+            Assert.fail("write after shutdown was queued");
+        } catch (IOException e) {
+            Assert.assertFalse(sink.exists(new File(OUTPUT_FOLDER, "Tag.java")));
+        }
+    }
+
+    @Test
+    public void testConfigWritesAsynchronouslyOnEachGeneration() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final OpenAPIGenerator codegen = new OpenAPIGenerator();
+        codegen.setOutputDir(OUTPUT_FOLDER.getPath());
+        codegen.additionalProperties().put(DefaultCodegenConfig.ASYNC_WRITE_THREADS, 2);
+        for (int i = 0; i < 2; i++) {
+            final InMemoryOutputSink sink = new InMemoryOutputSink(OUTPUT_FOLDER);
+            codegen.additionalProperties().put(DefaultCodegenConfig.OUTPUT_SINK, sink);
+            codegen.processOpts();
+            codegen.preprocessOpenAPI(openAPI);
+            // waits for the writes
+            codegen.processOpenAPI(openAPI);
+
+            Assert.assertEquals(sink.getPaths(), Collections.singletonList("openapi.json"));
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
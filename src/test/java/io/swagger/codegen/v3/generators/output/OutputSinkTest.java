@@ -0,0 +1,151 @@
+package io.swagger.codegen.v3.generators.output;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.openapi.OpenAPIGenerator;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class OutputSinkTest {
+
+    private static final File OUTPUT_FOLDER = new File("target/generated");
+
+    @Test
+    public void testInMemory() throws IOException {
+        final InMemoryOutputSink sink = new InMemoryOutputSink(OUTPUT_FOLDER);
+        sink.write(new File(OUTPUT_FOLDER, "README.md"), bytes("readme"));
+        sink.write(new File(OUTPUT_FOLDER, "src/main/java/Pet.java"), bytes("class Pet {}"));
+
+        Assert.assertEquals(sink.getPaths(), Arrays.asList("README.md", "src/main/java/Pet.java"));
+        Assert.assertEquals(sink.getContentAsString("src/main/java/Pet.java"), "class Pet {}");
+        Assert.assertTrue(sink.exists(new File(OUTPUT_FOLDER.getAbsoluteFile(), "README.md")));
+        Assert.assertFalse(sink.exists(new File(OUTPUT_FOLDER, "pom.xml")));
+        Assert.assertNull(sink.getContent("pom.xml"));
+    }
+
+    @Test
+    public void testZip() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputSink sink = new ZipOutputSink(OUTPUT_FOLDER, out)) {
+            Assert.assertTrue(sink.write(new File(OUTPUT_FOLDER, "README.md"), bytes("readme")));
+            Assert.assertTrue(sink.write(new File(OUTPUT_FOLDER, "src/main/java/Pet.java"), bytes("class Pet {}")));
+            Assert.assertFalse(sink.write(new File(OUTPUT_FOLDER, "README.md"), bytes("other")));
+            Assert.assertTrue(sink.exists(new File(OUTPUT_FOLDER, "src/main/java/Pet.java")));
+        }
+
+        final Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toString(zip, StandardCharsets.UTF_8));
+            }
+        }
+        Assert.assertEquals(new ArrayList<>(entries.keySet()), Arrays.asList("README.md", "src/main/java/Pet.java"));
+        Assert.assertEquals(entries.get("README.md"), "readme");
+        Assert.assertEquals(entries.get("src/main/java/Pet.java"), "class Pet {}");
+    }
+
+    @Test
+    public void testCreate() {
+        Assert.assertTrue(OutputSinks.create(null, OUTPUT_FOLDER.getPath(), false) instanceof FileSystemOutputSink);
+        Assert.assertTrue(OutputSinks.create("filesystem", OUTPUT_FOLDER.getPath(), true) instanceof WriteIfChangedSink);
+        Assert.assertTrue(OutputSinks.create("memory", OUTPUT_FOLDER.getPath(), false) instanceof InMemoryOutputSink);
+        final OutputSink sink = new InMemoryOutputSink(OUTPUT_FOLDER);
+        Assert.assertSame(OutputSinks.create(sink, OUTPUT_FOLDER.getPath(), false), sink);
+        Assert.assertEquals(OutputSinks.relativePath(OUTPUT_FOLDER, new File(OUTPUT_FOLDER, "api/../docs/Pet.md")), "docs/Pet.md");
+    }
+
+    @Test
+    public void testConfigWritesToSink() {
+        final InMemoryOutputSink sink = new InMemoryOutputSink(OUTPUT_FOLDER);
+        final OpenAPIGenerator codegen = new OpenAPIGenerator();
+        codegen.setOutputDir(OUTPUT_FOLDER.getPath());
+        codegen.additionalProperties().put(DefaultCodegenConfig.OUTPUT_SINK, sink);
+        codegen.processOpts();
+        codegen.preprocessOpenAPI(new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml"));
+
+        Assert.assertEquals(sink.getPaths(), Arrays.asList("openapi.json"));
+        Assert.assertTrue(sink.getContentAsString("openapi.json").contains("\"Pet\""));
+        Assert.assertFalse(new File(OUTPUT_FOLDER, "openapi.json").exists());
+    }
+
+    @Test
+    public void testRenderedFilesGoToSink() throws IOException {
+        final File outputFolder = Files.createTempDirectory("output-sink").toFile();
+        try {
+            final File readme = new File(outputFolder, "README.md");
+            FileUtils.writeStringToFile(readme, "mine", StandardCharsets.UTF_8);
+            final InMemoryOutputSink sink = new InMemoryOutputSink(outputFolder);
+            final OpenAPIGenerator codegen = new OpenAPIGenerator() {
+                @Override
+                protected void setTemplateEngine() {
+                    templateEngine = new TemplateEngine() {
+                        @Override
+                        public String getRendered(String templateFile, Map<String, Object> templateData) {
+                            return "rendered " + templateFile;
+                        }
+
+                        @Override
+                        public String getName() {
+                            return "stub";
+                        }
+                    };
+                }
+            };
+            codegen.setOutputDir(outputFolder.getPath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.OUTPUT_SINK, sink);
+            codegen.processOpts();
+            final File scratchFolder = new File(codegen.outputFolder());
+            Assert.assertNotEquals(scratchFolder.getAbsoluteFile(), outputFolder.getAbsoluteFile());
+
+            codegen.writeOptional(codegen.outputFolder(), new SupportingFile("README.mustache", "", "README.md"));
+            Assert.assertTrue(codegen.supportingFiles().isEmpty());
+
+            // as the generator does
+            render(codegen, new File(scratchFolder, "src/main/java/Pet.java"), "model.mustache");
+            render(codegen, new File(scratchFolder, "README.md"), "README.mustache");
+            FileUtils.writeStringToFile(new File(scratchFolder, ".swagger-codegen/VERSION"), "3", StandardCharsets.UTF_8);
+            codegen.processOpenAPI(new OpenAPI());
+
+            Assert.assertEquals(sink.getContentAsString("src/main/java/Pet.java"), "rendered model.mustache");
+            Assert.assertEquals(sink.getContentAsString("README.md"), "rendered README.mustache");
+            Assert.assertEquals(sink.getContentAsString(".swagger-codegen/VERSION"), "3");
+            Assert.assertEquals(outputFolder.list(), new String[]{"README.md"});
+            Assert.assertEquals(FileUtils.readFileToString(readme, StandardCharsets.UTF_8), "mine");
+            Assert.assertFalse(scratchFolder.exists());
+            Assert.assertEquals(codegen.outputFolder(), outputFolder.getPath());
+        } finally {
+            FileUtils.deleteDirectory(outputFolder);
+        }
+    }
+
+    private static void render(CodegenConfig codegen, File file, String templateFile) throws IOException {
+        Assert.assertTrue(codegen.shouldOverwrite(file.getPath()));
+        final String content = codegen.getTemplateEngine().getRendered(templateFile, Collections.emptyMap());
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package io.swagger.codegen.v3.generators.output;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class WriteIfChangedSinkTest {
+
+    private static final long TIMESTAMP = 1000000000000L;
+
+    private File outputDir;
+
+    @BeforeMethod
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("write-if-changed").toFile();
+    }
+
+    @AfterMethod
+    public void deleteOutputDir() throws IOException {
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Test
+    public void testIdenticalWritesAreSkipped() throws IOException {
+        final File file = new File(outputDir, "api/openapi.json");
+        final WriteIfChangedSink sink = new WriteIfChangedSink();
+
+        Assert.assertTrue(sink.write(file, bytes("{}")));
+        Assert.assertTrue(file.setLastModified(TIMESTAMP));
+        Assert.assertFalse(sink.write(file, bytes("{}")));
+        Assert.assertEquals(file.lastModified(), TIMESTAMP);
+        Assert.assertTrue(sink.write(file, bytes("{ }")));
+        Assert.assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "{ }");
+
+        Assert.assertEquals(sink.getWrittenCount(), 2);
+        Assert.assertEquals(sink.getUnchangedCount(), 1);
+    }
+
+    @Test
+    public void testUnchangedTimestampsAreRestored() throws IOException {
+        final File same = new File(outputDir, "Pet.java");
+        final File changed = new File(outputDir, "Order.java");
+        FileUtils.writeStringToFile(same, "class Pet {}", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(changed, "class Order {}", StandardCharsets.UTF_8);
+        Assert.assertTrue(same.setLastModified(TIMESTAMP));
+        Assert.assertTrue(changed.setLastModified(TIMESTAMP));
+
+        final WriteIfChangedSink sink = new WriteIfChangedSink();
+        sink.track(same);
+        sink.track(changed);
+        sink.track(new File(outputDir, "User.java"));
+        FileUtils.writeStringToFile(same, "class Pet {}", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(changed, "class Order { int id; }", StandardCharsets.UTF_8);
+        sink.restoreUnchangedTimestamps();
+
+        Assert.assertEquals(same.lastModified(), TIMESTAMP);
+        Assert.assertNotEquals(changed.lastModified(), TIMESTAMP);
+        Assert.assertEquals(sink.getWrittenCount(), 1);
+        Assert.assertEquals(sink.getUnchangedCount(), 1);
+    }
+
+    @Test
+    public void testNewFilesAreCountedAsWritten() throws IOException {
+        final File pet = new File(outputDir, "Pet.java");
+        final File order = new File(outputDir, "Order.java");
+        FileUtils.writeStringToFile(pet, "class Pet {}", StandardCharsets.UTF_8);
+        Assert.assertTrue(pet.setLastModified(TIMESTAMP));
+
+        final WriteIfChangedSink sink = new WriteIfChangedSink();
+        sink.track(pet);
+        FileUtils.writeStringToFile(pet, "class Pet {}", StandardCharsets.UTF_8);
+        // restored as soon as the file is written
+        sink.restoreUnchangedTimestamps();
+        Assert.assertEquals(pet.lastModified(), TIMESTAMP);
+
+        sink.track(order);
+        FileUtils.writeStringToFile(order, "class Order {}", StandardCharsets.UTF_8);
+        sink.restoreUnchangedTimestamps();
+        sink.restoreUnchangedTimestamps();
+
+        Assert.assertEquals(sink.getWrittenCount(), 1);
+        Assert.assertEquals(sink.getUnchangedCount(), 1);
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
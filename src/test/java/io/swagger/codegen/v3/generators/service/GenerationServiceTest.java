@@ -0,0 +1,178 @@
+package io.swagger.codegen.v3.generators.service;
+
+import io.swagger.codegen.v3.CodegenArgument;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class GenerationServiceTest {
+
+    private static final String PETSTORE = "src/test/resources/3_0_0/petstore.yaml";
+
+    @Test
+    public void testNewGenerator() {
+        try (GenerationService service = new GenerationService(1, new File("target"))) {
+            service.warmUp(Collections.singletonList("java"));
+            Assert.assertTrue(service.getWarmedLanguages().contains("java"));
+
+            final CodegenConfig first = service.newGenerator("java");
+            final CodegenConfig second = service.newGenerator("java");
+            Assert.assertNotSame(first, second);
+
+            final List<CodegenArgument> arguments = first.readLanguageArguments();
+            Assert.assertFalse(arguments.isEmpty());
+            Assert.assertNotSame(arguments.get(0), second.readLanguageArguments().get(0));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownGenerator() {
+        try (GenerationService service = new GenerationService(1, new File("target"))) {
+            service.warmUp(Collections.singletonList("unknown"));
+        }
+    }
+
+    @Test
+    public void testHttp() throws IOException {
+        final File output = Files.createTempDirectory("generation-http").toFile();
+        try (GenerationService service = new GenerationService(2, output);
+             GenerationServer server = new GenerationServer(service)) {
+            final InetSocketAddress address = server.start(0);
+            final URL url = new URL("http://localhost:" + address.getPort() + "/generate");
+            final String token = server.getToken();
+
+            final GenerationRequest request = new GenerationRequest("java", PETSTORE, "client");
+            final String body = Json.mapper().writeValueAsString(request);
+            Assert.assertEquals(post(url, body, null, "application/json").getResponseCode(), 401);
+            Assert.assertEquals(post(url, body, "wrong", "application/json").getResponseCode(), 401);
+            Assert.assertEquals(post(url, body, token, "text/plain").getResponseCode(), 415);
+
+            final HttpURLConnection connection = post(url, body, token, "application/json");
+            Assert.assertEquals(connection.getResponseCode(), 200);
+            final GenerationResult result;
+            try (InputStream in = connection.getInputStream()) {
+                result = Json.mapper().readValue(in, GenerationResult.class);
+            }
+            Assert.assertTrue(result.isSuccess());
+            Assert.assertFalse(result.getFiles().isEmpty());
+            Assert.assertEquals(result.getOutputDir(), new File(output, "client").getAbsolutePath());
+            Assert.assertTrue(new File(output, "client/src/main/java/io/swagger/client/model/Order.java").exists());
+
+            Assert.assertEquals(post(url, "{", token, "application/json").getResponseCode(), 400);
+            final GenerationRequest unknown = new GenerationRequest("unknown", PETSTORE, "client");
+            Assert.assertEquals(post(url, Json.mapper().writeValueAsString(unknown), token, "application/json")
+                    .getResponseCode(), 500);
+            final GenerationRequest outside = new GenerationRequest("java", PETSTORE, "../outside");
+            Assert.assertEquals(post(url, Json.mapper().writeValueAsString(outside), token, "application/json")
+                    .getResponseCode(), 500);
+            Assert.assertFalse(new File(output.getParentFile(), "outside").exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testStdin() throws IOException {
+        final File output = Files.createTempDirectory("generation-stdin").toFile();
+        try (GenerationService service = new GenerationService(2, output)) {
+            final List<GenerationRequest> requests = Arrays.asList(
+                    new GenerationRequest("java", PETSTORE, new File(output, "java").getAbsolutePath()),
+                    new GenerationRequest("python", PETSTORE, new File(output, "python").getAbsolutePath()));
+            final StringBuilder in = new StringBuilder();
+            for (GenerationRequest request : requests) {
+                in.append(Json.mapper().writeValueAsString(request)).append('\n');
+            }
+            final StringWriter out = new StringWriter();
+            new GenerationServer(service).serve(new BufferedReader(new StringReader(in.toString())), out);
+
+            final String[] lines = out.toString().trim().split("\n");
+            Assert.assertEquals(lines.length, 2);
+            for (String line : lines) {
+                final GenerationResult result = Json.mapper().readValue(line, GenerationResult.class);
+                Assert.assertTrue(result.isSuccess(), result.getError());
+                Assert.assertFalse(result.getFiles().isEmpty());
+            }
+            Assert.assertTrue(new File(output, "java/src/main/java/io/swagger/client/model/Order.java").exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testOutputRoot() throws IOException {
+        final File output = Files.createTempDirectory("generation-root").toFile();
+        try (GenerationService service = new GenerationService(1, output)) {
+            Assert.assertEquals(service.resolveOutputFile("java"), new File(output, "java").getAbsoluteFile());
+            Assert.assertEquals(service.resolveOutputFile(new File(output, "java").getAbsolutePath()),
+                    new File(output, "java").getAbsoluteFile());
+
+            final GenerationRequest outside = new GenerationRequest("java", PETSTORE, "java")
+                    .additionalProperty("instrumentationReport", "../report.json");
+            final GenerationResult result = service.generate(outside);
+            Assert.assertFalse(result.isSuccess());
+            Assert.assertTrue(result.getError().contains("outside of the output root"), result.getError());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testParentPathProperties() throws IOException {
+        final File parent = Files.createTempDirectory("generation-parent").toFile();
+        final File output = new File(parent, "root");
+        try (GenerationService service = new GenerationService(1, output)) {
+            final GenerationRequest sourceFolder = new GenerationRequest("java", PETSTORE, "java")
+                    .additionalProperty("sourceFolder", "../../x");
+            final GenerationResult result = service.generate(sourceFolder);
+            Assert.assertFalse(result.isSuccess());
+            Assert.assertTrue(result.getError().contains("outside of the output root"), result.getError());
+            Assert.assertEquals(parent.list(), new String[0]);
+
+            final GenerationRequest templateDir = new GenerationRequest("java", PETSTORE, "java")
+                    .additionalProperty("templateDir", parent.getAbsolutePath());
+            Assert.assertTrue(service.generate(templateDir).getError().contains("outside of the output root"));
+        } finally {
+            FileUtils.deleteDirectory(parent);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOutsideOutputRoot() throws IOException {
+        try (GenerationService service = new GenerationService(1, new File("target"))) {
+            service.resolveOutputFile("/tmp/elsewhere");
+        }
+    }
+
+    private static HttpURLConnection post(URL url, String body, String token, String contentType) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        if (token != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        connection.setRequestProperty("Content-Type", contentType);
+        try (OutputStream out = connection.getOutputStream()) {
+            IOUtils.write(body, out, StandardCharsets.UTF_8);
+        }
+        return connection;
+    }
+}
@@ -9,6 +9,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.Map;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
@@ -158,4 +159,18 @@ public class Swift4CodegenTest {
         Assert.assertEquals(codegen.getHideGenerationTimestamp().booleanValue(), false);
     }
 
+    @Test(description = "The api templates render the examples in doc comments, so only JSON examples are generated.")
+    public void testJsonExamplesOnly() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Operation operation = openAPI.getPaths().get("/pet/{petId}").getGet();
+        final Swift4Codegen codegen = new Swift4Codegen();
+        codegen.preprocessOpenAPI(openAPI);
+        final CodegenOperation co = codegen.fromOperation("/pet/{petId}", "GET", operation, openAPI.getComponents().getSchemas(), openAPI);
+
+        Assert.assertFalse(co.examples.isEmpty());
+        for (Map<String, String> example : co.examples) {
+            Assert.assertEquals(example.get("contentType"), "application/json");
+        }
+    }
+
 }
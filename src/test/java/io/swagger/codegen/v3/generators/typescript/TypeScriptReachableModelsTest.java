@@ -0,0 +1,34 @@
+package io.swagger.codegen.v3.generators.typescript;
+
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.ProcessedModels;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+public class TypeScriptReachableModelsTest {
+
+    @DataProvider(name = "generators")
+    public Object[][] generators() {
+        return new Object[][]{{new TypeScriptClientCodegen()}, {new TypeScriptAngularClientCodegen()}};
+    }
+
+    @Test(dataProvider = "generators")
+    public void testReachableModelsFrom(DefaultCodegenConfig codegen) {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        codegen.additionalProperties().put(DefaultCodegenConfig.REACHABLE_MODELS_FROM, "store, updatePet");
+        codegen.processOpts();
+        codegen.preprocessOpenAPI(openAPI);
+
+        final Map<String, Object> processedModels = ProcessedModels.of(codegen, openAPI.getComponents().getSchemas());
+        final Map<String, Object> generatedModels = codegen.postProcessAllModels(processedModels);
+
+        Assert.assertEquals(generatedModels.keySet(), new HashSet<>(Arrays.asList("Order", "Pet", "Category", "Tag")));
+    }
+}
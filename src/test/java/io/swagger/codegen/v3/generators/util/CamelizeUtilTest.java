@@ -0,0 +1,96 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+public class CamelizeUtilTest {
+
+    private static final String SEPARATORS = "_-./$\\ \n";
+    private static final String LETTERS = "aAbBiIzZ09ßüé日";
+
+    private Locale defaultLocale;
+
+    @BeforeClass
+    public void setLocale() {
+        // golden values were recorded with an english default locale (class name and underscore casing is locale sensitive)
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @AfterClass
+    public void resetLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @DataProvider(name = "golden")
+    public Object[][] golden() throws Exception {
+        final List<Object[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream("camelize/golden.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rows.add(line.split("\t", -1));
+            }
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "golden")
+    public void testGoldenValues(String word, String camelized, String lowerCamelized) {
+        Assert.assertEquals(CamelizeUtil.camelize(word, false), camelized);
+        Assert.assertEquals(CamelizeUtil.camelize(word, true), lowerCamelized);
+        Assert.assertEquals(CamelizeUtil.legacyCamelize(word, false), camelized);
+        Assert.assertEquals(CamelizeUtil.legacyCamelize(word, true), lowerCamelized);
+    }
+
+    @Test
+    public void testCachedValues() {
+        CamelizeUtil.clearCache();
+        final String first = CamelizeUtil.camelize("cached_word", false);
+        Assert.assertEquals(first, "CachedWord");
+        Assert.assertSame(CamelizeUtil.camelize("cached_word", false), first);
+        Assert.assertEquals(CamelizeUtil.camelize("cached_word", true), "cachedWord");
+    }
+
+    @Test
+    public void testLongSeparatorSequences() {
+        final StringBuilder builder = new StringBuilder("a");
+        for (int i = 0; i < 150; i++) {
+            builder.append("_b-c/d");
+        }
+        final String word = builder.toString();
+        Assert.assertEquals(CamelizeUtil.camelize(word, false), CamelizeUtil.legacyCamelize(word, false));
+        Assert.assertEquals(CamelizeUtil.camelize(word, true), CamelizeUtil.legacyCamelize(word, true));
+    }
+
+    @Test
+    public void testScanMatchesLegacy() {
+        final Random random = new Random(42);
+        final String alphabet = SEPARATORS + LETTERS;
+        for (int n = 0; n < 20000; n++) {
+            final int length = random.nextInt(12);
+            final StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            final String word = builder.toString();
+            for (boolean lowercaseFirstLetter : new boolean[]{false, true}) {
+                final String scanned = CamelizeUtil.scanCamelize(word, lowercaseFirstLetter);
+                if (scanned != null) {
+                    Assert.assertEquals(scanned, CamelizeUtil.legacyCamelize(word, lowercaseFirstLetter), "word: " + word);
+                }
+            }
+        }
+    }
+}
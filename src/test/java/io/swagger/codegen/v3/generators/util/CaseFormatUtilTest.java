@@ -0,0 +1,85 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+public class CaseFormatUtilTest {
+
+    private static final String ALPHABET = "aAbBiIzZ09._-$ /\\\nßΣİé日";
+
+    private Locale defaultLocale;
+
+    @BeforeClass
+    public void setLocale() {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @AfterClass
+    public void resetLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @DataProvider(name = "words")
+    public Object[][] words() {
+        return new Object[][]{
+                {"MyHTTPRequest", "my_http_request", "my-http-request", "MY_HTTP_REQUEST"},
+                {"io.swagger.Api$Inner", "io/swagger/api__inner", "io/swagger/api--inner", "IO/SWAGGER/API__INNER"},
+                {"getPetById", "get_pet_by_id", "get-pet-by-id", "GET_PET_BY_ID"},
+                {"pet store-api", "pet_store_api", "pet-store-api", "PET_STORE_API"},
+                {"v2Response", "v2_response", "v2-response", "V2_RESPONSE"},
+                {"ABC", "abc", "abc", "ABC"},
+                {"", "", "", ""},
+        };
+    }
+
+    @Test(dataProvider = "words")
+    public void testConversions(String word, String underscored, String dashized, String screaming) {
+        Assert.assertEquals(CaseFormatUtil.underscore(word), underscored);
+        Assert.assertEquals(CaseFormatUtil.snakeCase(word), underscored);
+        Assert.assertEquals(CaseFormatUtil.dashize(word), dashized);
+        Assert.assertEquals(CaseFormatUtil.kebabCase(word), dashized);
+        Assert.assertEquals(CaseFormatUtil.screamingSnakeCase(word), screaming);
+    }
+
+    @Test
+    public void testCamelCase() {
+        Assert.assertEquals(CaseFormatUtil.camelCase("get_pet-by_id"), "getPetById");
+        Assert.assertEquals(CaseFormatUtil.pascalCase("get_pet-by_id"), "GetPetById");
+    }
+
+    @Test
+    public void testCachedValues() {
+        CaseFormatUtil.clearCache();
+        final String first = CaseFormatUtil.underscore("CachedWord");
+        Assert.assertSame(CaseFormatUtil.underscore("CachedWord"), first);
+        Assert.assertEquals(CaseFormatUtil.dashize("CachedWord"), "cached-word");
+    }
+
+    @Test
+    public void testMatchesLegacy() {
+        for (Locale locale : new Locale[]{Locale.ENGLISH, new Locale("tr")}) {
+            Locale.setDefault(locale);
+            final Random random = new Random(42);
+            for (int n = 0; n < 20000; n++) {
+                final int length = random.nextInt(12);
+                final StringBuilder builder = new StringBuilder(length);
+                for (int i = 0; i < length; i++) {
+                    builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                final String word = builder.toString();
+                final String underscored = CaseFormatUtil.legacyUnderscore(word);
+                Assert.assertEquals(CaseFormatUtil.convert(word, '_', false), underscored, "word: " + word);
+                Assert.assertEquals(CaseFormatUtil.convert(word, '-', false), CaseFormatUtil.legacyDashize(word), "word: " + word);
+                Assert.assertEquals(CaseFormatUtil.convert(word, '_', true), underscored.toUpperCase(), "word: " + word);
+            }
+        }
+        Locale.setDefault(Locale.ENGLISH);
+    }
+}
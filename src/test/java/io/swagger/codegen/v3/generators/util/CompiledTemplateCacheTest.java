@@ -0,0 +1,70 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.github.jknack.handlebars.Handlebars;
+import io.swagger.codegen.v3.generators.handlebars.SharedTemplateCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CompiledTemplateCacheTest {
+
+    @Test
+    public void testTemplatesAreKeyedByContent() throws IOException {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+        final AtomicInteger compilations = new AtomicInteger();
+        final CompiledTemplateCache.Compiler<String> compiler = content -> content + compilations.incrementAndGet();
+
+        Assert.assertEquals(cache.get("mustache", "Java/pojo.mustache", "pojo", compiler), "pojo1");
+        Assert.assertEquals(cache.get("mustache", "Java/pojo.mustache", "pojo", compiler), "pojo1");
+        // same path, new content
+        Assert.assertEquals(cache.get("mustache", "Java/pojo.mustache", "pojo v2", compiler), "pojo v22");
+        // same content, other engine
+        Assert.assertEquals(cache.get("handlebars", "Java/pojo.mustache", "pojo", compiler), "pojo3");
+
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 3);
+        Assert.assertEquals(cache.size(), 3);
+
+        cache.evict("mustache", "Java/pojo.mustache");
+        Assert.assertEquals(cache.size(), 1);
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getRequestCount(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTemplatesAreEvicted() throws IOException {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(2);
+        final CompiledTemplateCache.Compiler<String> compiler = content -> content;
+
+        cache.get("handlebars", "model.mustache", "model", compiler);
+        cache.get("handlebars", "api.mustache", "api", compiler);
+        cache.get("handlebars", "model.mustache", "model", compiler);
+        cache.get("handlebars", "pojo.mustache", "pojo", compiler);
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        cache.get("handlebars", "model.mustache", "model", compiler);
+        Assert.assertEquals(cache.getHitCount(), 2);
+        cache.get("handlebars", "api.mustache", "api", compiler);
+        Assert.assertEquals(cache.getMissCount(), 4);
+
+        cache.setMaximumSize(1);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testHandlebarsTemplatesAreShared() throws IOException {
+        final CompiledTemplateCache cache = new CompiledTemplateCache(10);
+        final Handlebars first = new Handlebars().with(new SharedTemplateCache("test", cache));
+        final Handlebars second = new Handlebars().with(new SharedTemplateCache("test", cache));
+
+        Assert.assertEquals(first.compileInline("Hello {{name}}").apply(Collections.singletonMap("name", "Pet")), "Hello Pet");
+        Assert.assertEquals(second.compileInline("Hello {{name}}").apply(Collections.singletonMap("name", "Order")), "Hello Order");
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+}
@@ -0,0 +1,65 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class NameSanitizerTest {
+
+    @DataProvider(name = "defaultNames")
+    public Object[][] defaultNames() {
+        return new Object[][]{
+                {"input[]", false, "input"},
+                {"input[a][b]", false, "input_a_b"},
+                {"input(a)(b)", false, "input_a_b"},
+                {"input.name", false, "input_name"},
+                {"input-name", false, "input_name"},
+                {"input name and age", false, "input_name_and_age"},
+                {"$php_variable", false, "php_variable"},
+                {"[[]]", false, "_"},
+                {"naïve_café", false, "nave_caf"},
+                {"naïve_café", true, "naïve_café"},
+                {"日本語-名前", true, "日本語_名前"},
+                {"a€b", true, "ab"},
+        };
+    }
+
+    @Test(dataProvider = "defaultNames")
+    public void testDefaultSanitizer(String name, boolean allowUnicode, String expected) {
+        Assert.assertEquals(NameSanitizer.createDefault().sanitize(name, allowUnicode), expected);
+    }
+
+    @Test
+    public void testRegisteredMappings() {
+        final NameSanitizer base = NameSanitizer.createDefault();
+        final NameSanitizer sanitizer = new NameSanitizer(base)
+                .addReplacement("@", "_at_")
+                .addAllowedCharacter('$');
+
+        Assert.assertEquals(sanitizer.sanitize("$user@host.name", false), "$user_at_host_name");
+        // the copied sanitizer is not affected
+        Assert.assertEquals(base.sanitize("$user@host.name", false), "userhost_name");
+    }
+
+    @Test
+    public void testFirstRegisteredSequenceWins() {
+        final NameSanitizer sanitizer = new NameSanitizer()
+                .addReplacement("<=", "LessThanOrEqual")
+                .addReplacement("<", "LessThan")
+                .addReplacement("!", "Exclamation")
+                .addReplacement("!=", "NotEqual")
+                .addReplacement("=", "Equal");
+
+        Assert.assertEquals(sanitizer.sanitize("a<=b<c!=d", false), "aLessThanOrEqualbLessThancExclamationEquald");
+    }
+
+    @Test
+    public void testNonWordReplacement() {
+        final NameSanitizer sanitizer = new NameSanitizer()
+                .addReplacement("$", "Dollar")
+                .setNonWordReplacement("_");
+
+        Assert.assertEquals(sanitizer.sanitize("a€©b$c", false), "a_bDollarc");
+        Assert.assertEquals(sanitizer.sanitize("€", false), "_");
+    }
+}
@@ -0,0 +1,92 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class RefIndexTest {
+
+    @Test
+    public void testSchemaRefs() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/composed_schemas.yaml");
+        final RefIndex refIndex = new RefIndex(openAPI);
+        final Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet"), pet);
+        Assert.assertSame(refIndex.getSchema("Pet"), pet);
+        Assert.assertSame(refIndex.getSchemaFromRefSchema(new Schema().$ref("#/components/schemas/Pet")), pet);
+        Assert.assertSame(refIndex.getSchemaFromRefSchema(new Schema().$ref("#/components/schemas/Pet")),
+                OpenAPIUtil.getSchemaFromRefSchema(new Schema().$ref("#/components/schemas/Pet"), openAPI));
+        Assert.assertNull(refIndex.getSchema("#/components/schemas/Unknown"));
+        Assert.assertNull(refIndex.getSchema(null));
+        Assert.assertEquals(refIndex.getSimpleRef("#/components/schemas/Pet"), "Pet");
+        Assert.assertEquals(refIndex.getSimpleRef("Pet.yaml"), "Pet.yaml");
+        Assert.assertEquals(refIndex.getName("./models/Pet"), "Pet");
+    }
+
+    @Test
+    public void testSchemaRefsInGivenSchemas() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/composed_schemas.yaml");
+        final RefIndex refIndex = new RefIndex(openAPI);
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        final Schema other = new Schema();
+
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet", schemas), schemas.get("Pet"));
+        // other definitions than the ones of the document
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet", Collections.singletonMap("Pet", other)), other);
+        Assert.assertNull(refIndex.getSchema("#/components/schemas/Pet", null));
+        Assert.assertNull(refIndex.getSchema(null, schemas));
+    }
+
+    @Test
+    public void testHeaderRefs() {
+        final Header rateLimit = new Header().schema(new Schema().type("integer"));
+        final OpenAPI openAPI = new OpenAPI().components(new Components().headers(Collections.singletonMap("RateLimit", rateLimit)));
+        final RefIndex refIndex = new RefIndex(openAPI);
+
+        Assert.assertSame(refIndex.getHeader("#/components/headers/RateLimit"), rateLimit);
+        Assert.assertNull(refIndex.getHeader("#/components/headers/Unknown"));
+        Assert.assertNull(new RefIndex(new OpenAPI()).getHeader("#/components/headers/RateLimit"));
+    }
+
+    @Test
+    public void testAllOfProperties() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/composed_schemas.yaml");
+        final RefIndex refIndex = new RefIndex(openAPI);
+        final List<Schema> allOf = ((ComposedSchema) openAPI.getComponents().getSchemas().get("Dog")).getAllOf();
+
+        for (String propertyName : new String[]{"id", "bark", "breed", "unknown"}) {
+            Assert.assertSame(refIndex.getAllOfProperty(propertyName, allOf),
+                    OpenAPIUtil.getPropertyFromAllOfSchema(propertyName, allOf, openAPI));
+        }
+        Assert.assertNotNull(refIndex.getAllOfProperty("bark", allOf));
+    }
+
+    @Test
+    public void testRequestBodyRefs() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/requestBodyRefTest.json");
+        final RefIndex refIndex = new RefIndex(openAPI);
+
+        Assert.assertSame(refIndex.getRequestBody("#/components/requestBodies/Pet"),
+                openAPI.getComponents().getRequestBodies().get("Pet"));
+        Assert.assertNull(refIndex.getParameter("#/components/parameters/Pet"));
+    }
+
+    @Test
+    public void testEmptyDocument() {
+        final RefIndex refIndex = new RefIndex(new OpenAPI());
+
+        Assert.assertNull(refIndex.getSchema("#/components/schemas/Pet"));
+        Assert.assertNull(refIndex.getParameter("#/components/parameters/limit"));
+        Assert.assertNull(refIndex.getResponse("#/components/responses/NotFound"));
+    }
+}
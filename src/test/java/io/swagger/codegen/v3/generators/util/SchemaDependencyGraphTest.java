@@ -0,0 +1,49 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.generators.util.SchemaDependencyGraph.DependencyType;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class SchemaDependencyGraphTest {
+
+    @Test
+    public void testDependencyTypes() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final SchemaDependencyGraph graph = new SchemaDependencyGraph(openAPI);
+
+        Assert.assertEquals(graph.getDependencies("Pet"), new HashSet<>(Arrays.asList("Category", "Tag")));
+        Assert.assertEquals(graph.getDependencies("Pet", DependencyType.REFERENCE), Collections.singleton("Category"));
+        Assert.assertEquals(graph.getDependencies("Pet", DependencyType.ITEMS), Collections.singleton("Tag"));
+        Assert.assertEquals(graph.getDependents("Category"), new HashSet<>(Arrays.asList("Pet", "Category")));
+        Assert.assertTrue(graph.getDependencies("Order").isEmpty());
+    }
+
+    @Test
+    public void testComposedSchemas() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/composed_schemas.yaml");
+        final SchemaDependencyGraph graph = new SchemaDependencyGraph(openAPI);
+
+        Assert.assertEquals(graph.getDependencies("Dog", DependencyType.PARENT), Collections.singleton("Pet"));
+        Assert.assertEquals(graph.getDependents("Pet", DependencyType.PARENT), new HashSet<>(Arrays.asList("Dog", "Cat")));
+        Assert.assertEquals(graph.getDependencies("Pup", DependencyType.INTERFACE), new HashSet<>(Arrays.asList("Dog", "Cat")));
+        Assert.assertEquals(graph.getDependencies("PartMaster", DependencyType.INTERFACE),
+                new HashSet<>(Arrays.asList("PartOne", "PartTwo", "PartThree", "PartFour")));
+    }
+
+    @Test
+    public void testReachableSchemas() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final SchemaDependencyGraph graph = new SchemaDependencyGraph(openAPI);
+
+        Assert.assertEquals(graph.getReachableSchemas(Collections.singleton("Pet")), new HashSet<>(Arrays.asList("Pet", "Category", "Tag")));
+        Assert.assertEquals(graph.getOperationDependencies(openAPI.getPaths().get("/pet").getPost()), Collections.singleton("Pet"));
+        Assert.assertEquals(graph.getOperationDependencies(openAPI.getPaths().get("/user/createWithArray").getPost()), Collections.singleton("User"));
+        Assert.assertTrue(graph.getOperationDependencies(openAPI.getPaths().get("/store/inventory").getGet()).isEmpty());
+    }
+}
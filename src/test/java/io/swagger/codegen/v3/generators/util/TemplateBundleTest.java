@@ -0,0 +1,76 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
+import com.github.jknack.handlebars.io.TemplateSource;
+import io.swagger.codegen.v3.generators.handlebars.BundleTemplateLoader;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class TemplateBundleTest {
+
+    private static final File JAVA_TEMPLATES = new File("src/main/resources/handlebars/Java");
+
+    @Test
+    public void testBundleContainsTemplates() throws IOException {
+        final TemplateBundle bundle = TemplateBundle.of(JAVA_TEMPLATES.toPath());
+
+        Assert.assertEquals(bundle.getTemplate("model.mustache"), read("model.mustache"));
+        Assert.assertEquals(bundle.getTemplate("libraries/okhttp-gson/api.mustache"), read("libraries/okhttp-gson/api.mustache"));
+        // only templates are bundled
+        Assert.assertNull(bundle.getTemplate("gradle-wrapper.jar"));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bundle.write(out);
+        final TemplateBundle read = TemplateBundle.read(new ByteArrayInputStream(out.toByteArray()));
+        Assert.assertEquals(read.getTemplates(), bundle.getTemplates());
+    }
+
+    @Test
+    public void testLoaderFallsBackToTextTemplates() throws IOException {
+        final TemplateBundle bundle = TemplateBundle.of(JAVA_TEMPLATES.toPath());
+        final BundleTemplateLoader loader = new BundleTemplateLoader(bundle, "handlebars/Java", new ClassPathTemplateLoader("/", ""));
+
+        final TemplateSource model = loader.sourceAt("handlebars/Java/model");
+        Assert.assertEquals(model.filename(), "handlebars/Java/model.mustache");
+        Assert.assertEquals(model.content(StandardCharsets.UTF_8), read("model.mustache"));
+        Assert.assertEquals(loader.sourceAt("libraries/okhttp-gson/api").content(StandardCharsets.UTF_8), read("libraries/okhttp-gson/api.mustache"));
+        // not a template of the bundle
+        Assert.assertEquals(loader.sourceAt("handlebars/JavaSpring/api.mustache").content(StandardCharsets.UTF_8),
+                FileUtils.readFileToString(new File("src/main/resources/handlebars/JavaSpring/api.mustache"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStaleBundleIsNotUsed() throws IOException {
+        final File folder = Files.createTempDirectory("template-bundle").toFile();
+        try {
+            final File template = new File(folder, "model.mustache");
+            FileUtils.writeStringToFile(template, "{{name}}", StandardCharsets.UTF_8);
+            final File bundleFile = new File(folder, TemplateBundle.BUNDLE_FILE);
+            try (OutputStream out = Files.newOutputStream(bundleFile.toPath())) {
+                TemplateBundle.of(folder.toPath()).write(out);
+            }
+            Assert.assertTrue(template.setLastModified(1000000000000L));
+            Assert.assertTrue(bundleFile.setLastModified(1000000001000L));
+            Assert.assertFalse(TemplateBundle.isStale(bundleFile.toURI().toURL()));
+
+            // edited after the bundle was built
+            Assert.assertTrue(template.setLastModified(1000000002000L));
+            Assert.assertTrue(TemplateBundle.isStale(bundleFile.toURI().toURL()));
+        } finally {
+            FileUtils.deleteDirectory(folder);
+        }
+    }
+
+    private static String read(String template) throws IOException {
+        return FileUtils.readFileToString(new File(JAVA_TEMPLATES, template), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class TextEscaperTest {
+
+    @DataProvider(name = "texts")
+    public Object[][] texts() {
+        return new Object[][]{
+                {"plain text", "plain text"},
+                {"first\tsecond\nthird\r\nfourth", "first second third  fourth"},
+                {"say \"hello\"", "say \\\"hello\\\""},
+                {"C:\\path", "C:\\\\path"},
+                {"a\\/b", "a/b"},
+                {"ends with \\", "ends with \\\\"},
+                {"naïve €", "naïve €"},
+        };
+    }
+
+    @Test(dataProvider = "texts")
+    public void testTextEscaper(String text, String expected) {
+        Assert.assertEquals(TextEscaper.createTextEscaper().escape(text), expected);
+    }
+
+    @Test
+    public void testUnchangedTextIsNotCopied() {
+        final String text = "nothing to escape";
+        Assert.assertSame(TextEscaper.createTextEscaper().escape(text), text);
+        Assert.assertNull(TextEscaper.createTextEscaper().escape(null));
+    }
+
+    @Test
+    public void testSequenceReplacementsAreAppliedInOrder() {
+        final TextEscaper escaper = new TextEscaper()
+                .removeCharacter('"')
+                .addSequenceReplacement("*/", "*_/")
+                .addSequenceReplacement("/*", "/_*");
+
+        Assert.assertEquals(escaper.escape("/*/ \"quoted\""), "/_*_/ quoted");
+        Assert.assertEquals(escaper.escape("a */ b /* c"), "a *_/ b /_* c");
+    }
+
+    @Test
+    public void testCopiedEscaper() {
+        final TextEscaper base = new TextEscaper().removeCharacter('"');
+        final TextEscaper escaper = new TextEscaper(base).removeCharacter('\'');
+
+        Assert.assertEquals(escaper.escape("\"a\" 'b'"), "a b");
+        // the copied escaper is not affected
+        Assert.assertEquals(base.escape("\"a\" 'b'"), "a 'b'");
+    }
+}